@@ -0,0 +1,64 @@
+package com.projectmanagement;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Entry point for the fast-start build's CDS training run and startup benchmarks, run from the
+ * extracted jar with the application classes on the plain class path. Starts the application,
+ * then shuts it down again. With startup.result-file it records the JVM uptime for a later run;
+ * with startup.baseline-file it reports the improvement over that recorded run. Exits with
+ * status 1 if the JVM took longer than startup.max-time, or improved on the baseline by less than
+ * startup.min-improvement (a fraction).
+ */
+public final class StartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        ConfigurableApplicationContext context = SpringApplication.run(ProjectManagementApplication.class, args);
+        Duration uptime = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+        Environment environment = context.getEnvironment();
+        Duration maxTime = environment.getProperty("startup.max-time", Duration.class);
+        
+        boolean failed = maxTime != null && uptime.compareTo(maxTime) > 0;
+        if (failed) {
+            log.error("Startup took {} ms, over the limit of {} ms", uptime.toMillis(), maxTime.toMillis());
+        } else {
+            log.info("Startup took {} ms{}", uptime.toMillis(), maxTime != null ? " (limit " + maxTime.toMillis() + " ms)" : "");
+        }
+        
+        String resultFile = environment.getProperty("startup.result-file");
+        if (resultFile != null) {
+            Files.writeString(Path.of(resultFile), String.valueOf(uptime.toMillis()));
+        }
+        String baselineFile = environment.getProperty("startup.baseline-file");
+        if (baselineFile != null && Files.exists(Path.of(baselineFile))) {
+            long baseline = Long.parseLong(Files.readString(Path.of(baselineFile)).trim());
+            double improvement = 1.0 - (double) uptime.toMillis() / baseline;
+            double minImprovement = environment.getProperty("startup.min-improvement", Double.class, 0.0);
+            String comparison = String.format("%d ms against %d ms without AOT and CDS, %.0f%% faster (required %.0f%%)",
+                    uptime.toMillis(), baseline, improvement * 100, minImprovement * 100);
+            if (improvement < minImprovement) {
+                log.error("Fast-start took {}", comparison);
+                failed = true;
+            } else {
+                log.info("Fast-start took {}", comparison);
+            }
+        }
+        
+        int exitCode = SpringApplication.exit(context);
+        System.exit(failed ? 1 : exitCode);
+    }
+}
@@ -0,0 +1,29 @@
+package com.projectmanagement.analytics.controller;
+
+import com.projectmanagement.analytics.dto.BurndownDTO;
+import com.projectmanagement.analytics.service.BurndownService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/projects/{projectId}/burndown")
+@RequiredArgsConstructor
+public class BurndownController {
+
+    private final BurndownService burndownService;
+
+    @GetMapping
+    public ResponseEntity<BurndownDTO> getBurndown(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(burndownService.getBurndown(projectId, from, to));
+    }
+}
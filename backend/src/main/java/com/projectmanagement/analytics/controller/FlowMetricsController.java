@@ -0,0 +1,29 @@
+package com.projectmanagement.analytics.controller;
+
+import com.projectmanagement.analytics.dto.FlowMetricsDTO;
+import com.projectmanagement.analytics.service.FlowMetricsService;
+import com.projectmanagement.task.domain.TaskPriority;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/analytics/flow")
+@RequiredArgsConstructor
+public class FlowMetricsController {
+
+    private final FlowMetricsService flowMetricsService;
+
+    // Without projectId the sketches of all projects are merged
+    @GetMapping
+    public ResponseEntity<FlowMetricsDTO> getFlowMetrics(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(defaultValue = "12") int weeks) {
+        return ResponseEntity.ok(flowMetricsService.getFlowMetrics(projectId, assigneeId, priority, weeks));
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanagement.analytics.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDTO {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    
+    @Builder.Default
+    private List<BurndownPointDTO> points = new ArrayList<>();
+}
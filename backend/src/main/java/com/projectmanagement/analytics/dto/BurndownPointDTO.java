@@ -0,0 +1,28 @@
+package com.projectmanagement.analytics.dto;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDTO {
+    private LocalDate date;
+    
+    @Builder.Default
+    private Map<TaskStatus, Integer> taskCounts = new EnumMap<>(TaskStatus.class);
+    
+    @Builder.Default
+    private Map<TaskStatus, Long> estimatedHours = new EnumMap<>(TaskStatus.class);
+    
+    private long remainingHours;
+    private long completedHours;
+    private long totalHours;
+}
@@ -0,0 +1,17 @@
+package com.projectmanagement.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationPercentilesDTO {
+    private long sampleCount;
+    private Double p50Hours;
+    private Double p85Hours;
+    private Double p95Hours;
+}
@@ -0,0 +1,24 @@
+package com.projectmanagement.analytics.dto;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowMetricsDTO {
+    private Long projectId;
+    private Long assigneeId;
+    private TaskPriority priority;
+    private DurationPercentilesDTO cycleTime;
+    private DurationPercentilesDTO leadTime;
+    
+    @Builder.Default
+    private List<ThroughputPointDTO> weeklyThroughput = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package com.projectmanagement.analytics.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputPointDTO {
+    private LocalDate weekStart;
+    private long completedTasks;
+}
@@ -0,0 +1,68 @@
+package com.projectmanagement.analytics.repository;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BurndownRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void applyDelta(Long projectId, TaskStatus status, int countDelta, long hoursDelta) {
+        jdbcTemplate.update(
+                "INSERT INTO project_status_totals (project_id, status, task_count, estimated_hours) "
+                + "VALUES (:projectId, :status, :countDelta, :hoursDelta) "
+                + "ON CONFLICT (project_id, status) DO UPDATE SET "
+                + "task_count = project_status_totals.task_count + EXCLUDED.task_count, "
+                + "estimated_hours = project_status_totals.estimated_hours + EXCLUDED.estimated_hours",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("status", status.name())
+                        .addValue("countDelta", countDelta)
+                        .addValue("hoursDelta", hoursDelta));
+    }
+
+    public int snapshotTotals(LocalDate snapshotDate) {
+        return jdbcTemplate.update(
+                "INSERT INTO project_status_daily (project_id, snapshot_date, status, task_count, estimated_hours) "
+                + "SELECT project_id, :snapshotDate, status, task_count, estimated_hours FROM project_status_totals "
+                + "ON CONFLICT DO NOTHING",
+                new MapSqlParameterSource("snapshotDate", snapshotDate));
+    }
+
+    public List<StatusRow> findSnapshots(Long projectId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT snapshot_date, status, task_count, estimated_hours FROM project_status_daily "
+                + "WHERE project_id = :projectId AND snapshot_date BETWEEN :from AND :to "
+                + "ORDER BY snapshot_date",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("from", from)
+                        .addValue("to", to),
+                (rs, rowNum) -> new StatusRow(
+                        rs.getObject("snapshot_date", LocalDate.class),
+                        TaskStatus.valueOf(rs.getString("status")),
+                        rs.getInt("task_count"),
+                        rs.getLong("estimated_hours")));
+    }
+
+    public List<StatusRow> findCurrentTotals(Long projectId, LocalDate today) {
+        return jdbcTemplate.query(
+                "SELECT status, task_count, estimated_hours FROM project_status_totals WHERE project_id = :projectId",
+                new MapSqlParameterSource("projectId", projectId),
+                (rs, rowNum) -> new StatusRow(
+                        today,
+                        TaskStatus.valueOf(rs.getString("status")),
+                        rs.getInt("task_count"),
+                        rs.getLong("estimated_hours")));
+    }
+
+    public record StatusRow(LocalDate date, TaskStatus status, int taskCount, long estimatedHours) {
+    }
+}
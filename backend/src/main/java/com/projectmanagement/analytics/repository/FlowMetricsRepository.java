@@ -0,0 +1,63 @@
+package com.projectmanagement.analytics.repository;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FlowMetricsRepository {
+
+    private static final String COMPLETED_TASKS =
+            "SELECT id, project_id, assignee_id, priority, created_at, started_at, completed_at FROM tasks "
+            + "WHERE completed_at IS NOT NULL AND status = 'DONE' %1$s "
+            + "UNION ALL "
+            + "SELECT id, project_id, assignee_id, priority, created_at, started_at, completed_at FROM tasks_archive "
+            + "WHERE completed_at IS NOT NULL AND status = 'DONE' %1$s";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void forEachCompletedTask(Consumer<CompletedTaskRow> consumer) {
+        jdbcTemplate.query(String.format(COMPLETED_TASKS, ""), new MapSqlParameterSource(),
+                rs -> {
+                    consumer.accept(mapRow(rs));
+                });
+    }
+
+    public List<CompletedTaskRow> findCompletedTasks(Collection<Long> taskIds) {
+        return jdbcTemplate.query(String.format(COMPLETED_TASKS, "AND id IN (:taskIds)"),
+                new MapSqlParameterSource("taskIds", taskIds),
+                (rs, rowNum) -> mapRow(rs));
+    }
+
+    // Every status or assignee change and every deletion leaves a row in task_status_history
+    public List<Long> findTaskIdsChangedSince(LocalDateTime since) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT task_id FROM task_status_history WHERE changed_at >= :since",
+                new MapSqlParameterSource("since", since),
+                Long.class);
+    }
+
+    private static CompletedTaskRow mapRow(ResultSet rs) throws SQLException {
+        return new CompletedTaskRow(
+                rs.getLong("id"),
+                rs.getLong("project_id"),
+                rs.getObject("assignee_id", Long.class),
+                TaskPriority.valueOf(rs.getString("priority")),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("started_at", LocalDateTime.class),
+                rs.getObject("completed_at", LocalDateTime.class));
+    }
+
+    public record CompletedTaskRow(Long id, Long projectId, Long assigneeId, TaskPriority priority,
+                                   LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime completedAt) {
+    }
+}
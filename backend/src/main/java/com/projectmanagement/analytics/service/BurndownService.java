@@ -0,0 +1,8 @@
+package com.projectmanagement.analytics.service;
+
+import com.projectmanagement.analytics.dto.BurndownDTO;
+import java.time.LocalDate;
+
+public interface BurndownService {
+    BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,73 @@
+package com.projectmanagement.analytics.service;
+
+import com.projectmanagement.analytics.dto.BurndownDTO;
+import com.projectmanagement.analytics.dto.BurndownPointDTO;
+import com.projectmanagement.analytics.repository.BurndownRepository;
+import com.projectmanagement.analytics.repository.BurndownRepository.StatusRow;
+import com.projectmanagement.project.repository.ProjectRepository;
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.domain.TaskStatus;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BurndownServiceImpl implements BurndownService {
+
+    private final BurndownRepository burndownRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectVisibilityService visibilityService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        visibilityService.checkCanView(projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        
+        LocalDate today = LocalDate.now();
+        LocalDate end = to != null ? to : today;
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        
+        List<StatusRow> rows = new ArrayList<>(burndownRepository.findSnapshots(projectId, start, end));
+        if (!end.isBefore(today)) {
+            // Today's point comes from the live totals; its snapshot is only written after midnight
+            rows.addAll(burndownRepository.findCurrentTotals(projectId, today));
+        }
+        
+        Map<LocalDate, BurndownPointDTO> points = new LinkedHashMap<>();
+        for (StatusRow row : rows) {
+            BurndownPointDTO point = points.computeIfAbsent(row.date(),
+                    date -> BurndownPointDTO.builder().date(date).build());
+            point.getTaskCounts().put(row.status(), row.taskCount());
+            point.getEstimatedHours().put(row.status(), row.estimatedHours());
+            
+            if (row.status() == TaskStatus.DONE) {
+                point.setCompletedHours(point.getCompletedHours() + row.estimatedHours());
+            } else if (row.status() != TaskStatus.CANCELLED) {
+                point.setRemainingHours(point.getRemainingHours() + row.estimatedHours());
+            }
+            if (row.status() != TaskStatus.CANCELLED) {
+                point.setTotalHours(point.getTotalHours() + row.estimatedHours());
+            }
+        }
+        
+        return BurndownDTO.builder()
+                .projectId(projectId)
+                .from(start)
+                .to(end)
+                .points(new ArrayList<>(points.values()))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.projectmanagement.analytics.service;
+
+import com.projectmanagement.analytics.repository.BurndownRepository;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maintains project_status_totals from task changes within the same transaction, and copies
+ * the totals into the append-only project_status_daily table once a day. Tasks are never rescanned.
+ * The deltas of a transaction are summed per row and written just before it commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BurndownSnapshotRecorder {
+
+    private final BurndownRepository burndownRepository;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Archived tasks still count towards their project's totals
+        if (event.isArchival()) {
+            return;
+        }
+        TaskSnapshot previous = event.getPrevious();
+        TaskSnapshot current = event.getCurrent();
+        
+        if (previous != null && current != null
+                && Objects.equals(previous.getProjectId(), current.getProjectId())
+                && previous.getStatus() == current.getStatus()
+                && hours(previous) == hours(current)) {
+            return;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<TotalsKey, long[]> deltas = new TreeMap<>();
+            addDeltas(deltas, previous, current);
+            apply(deltas);
+            return;
+        }
+        addDeltas(pendingDeltas(), previous, current);
+    }
+
+    // At midnight, record the closing totals of the day that just ended
+    @Scheduled(cron = "${burndown.snapshot-cron:0 0 0 * * *}")
+    public void recordDailySnapshot() {
+        LocalDate snapshotDate = LocalDate.now().minusDays(1);
+        int rows = burndownRepository.snapshotTotals(snapshotDate);
+        log.info("Recorded {} burndown snapshot rows for {}", rows, snapshotDate);
+    }
+    
+    private void addDeltas(Map<TotalsKey, long[]> deltas, TaskSnapshot previous, TaskSnapshot current) {
+        if (previous != null) {
+            addDelta(deltas, new TotalsKey(previous.getProjectId(), previous.getStatus()), -1, -hours(previous));
+        }
+        if (current != null) {
+            addDelta(deltas, new TotalsKey(current.getProjectId(), current.getStatus()), 1, hours(current));
+        }
+    }
+    
+    private static void addDelta(Map<TotalsKey, long[]> deltas, TotalsKey key, long count, long hours) {
+        long[] delta = deltas.computeIfAbsent(key, k -> new long[2]);
+        delta[0] += count;
+        delta[1] += hours;
+    }
+    
+    // Rows are updated in key order, so concurrent transactions touching the same rows never deadlock
+    private void apply(Map<TotalsKey, long[]> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                burndownRepository.applyDelta(key.projectId(), key.status(), (int) delta[0], delta[1]);
+            }
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<TotalsKey, long[]> pendingDeltas() {
+        Map<TotalsKey, long[]> pending = (Map<TotalsKey, long[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        
+        Map<TotalsKey, long[]> deltas = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, deltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Written as late as possible, so the totals rows stay locked only while committing
+                apply(deltas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BurndownSnapshotRecorder.this);
+            }
+        });
+        return deltas;
+    }
+    
+    private long hours(TaskSnapshot snapshot) {
+        return snapshot.getEstimatedHours() != null ? snapshot.getEstimatedHours() : 0;
+    }
+    
+    private record TotalsKey(long projectId, TaskStatus status) implements Comparable<TotalsKey> {
+        @Override
+        public int compareTo(TotalsKey other) {
+            int byProject = Long.compare(projectId, other.projectId);
+            return byProject != 0 ? byProject : status.compareTo(other.status);
+        }
+    }
+}
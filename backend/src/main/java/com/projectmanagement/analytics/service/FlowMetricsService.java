@@ -0,0 +1,9 @@
+package com.projectmanagement.analytics.service;
+
+import com.projectmanagement.analytics.dto.FlowMetricsDTO;
+import com.projectmanagement.task.domain.TaskPriority;
+
+public interface FlowMetricsService {
+    
+    FlowMetricsDTO getFlowMetrics(Long projectId, Long assigneeId, TaskPriority priority, int weeks);
+}
@@ -0,0 +1,289 @@
+package com.projectmanagement.analytics.service;
+
+import com.projectmanagement.analytics.dto.DurationPercentilesDTO;
+import com.projectmanagement.analytics.dto.FlowMetricsDTO;
+import com.projectmanagement.analytics.dto.ThroughputPointDTO;
+import com.projectmanagement.analytics.repository.FlowMetricsRepository;
+import com.projectmanagement.analytics.repository.FlowMetricsRepository.CompletedTaskRow;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps cycle-time and lead-time sketches plus weekly completion counts per
+ * (project, assignee, priority). Every task counts once, with its latest completion, exactly as
+ * the database records it: each task's contribution is remembered, and any change replaces it,
+ * so a reopened, reassigned or deleted task takes its earlier contribution back out.
+ * <p>
+ * Changes on this instance apply as they commit. Changes made by other instances are picked up
+ * by a periodic sync that reads the task ids changed since the previous sync from
+ * task_status_history and reloads only those tasks. Replacing a contribution is idempotent, so the
+ * sync reads with an overlap that covers transactions committing after their history timestamp
+ * and clock differences between instances, and whatever it reads converges on the database state. A full reload runs at startup and then
+ * rarely, for changes that leave no history row, such as a new priority on a finished task.
+ */
+@Service
+@Slf4j
+public class FlowMetricsServiceImpl implements FlowMetricsService {
+
+    private static final double[] PERCENTILES = {0.50, 0.85, 0.95};
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final FlowMetricsRepository flowMetricsRepository;
+    private final double relativeAccuracy;
+    private final Duration syncOverlap;
+    private final Object lock = new Object();
+    private volatile Map<FlowKey, FlowStats> stats = new ConcurrentHashMap<>();
+    private Map<Long, Contribution> contributions = new HashMap<>();
+    private LocalDateTime syncedUntil;
+
+    // Changes committed while a rebuild scans the database
+    private List<TaskChangedEvent> replayBuffer;
+
+    public FlowMetricsServiceImpl(FlowMetricsRepository flowMetricsRepository,
+                                  @Value("${flow-metrics.relative-accuracy:0.01}") double relativeAccuracy,
+                                  @Value("${flow-metrics.sync-overlap:PT5M}") Duration syncOverlap) {
+        this.flowMetricsRepository = flowMetricsRepository;
+        this.relativeAccuracy = relativeAccuracy;
+        this.syncOverlap = syncOverlap;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${flow-metrics.rebuild-interval:P1D}", initialDelayString = "${flow-metrics.rebuild-interval:P1D}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime scanStart = LocalDateTime.now();
+        synchronized (lock) {
+            replayBuffer = new ArrayList<>();
+        }
+        
+        Map<FlowKey, FlowStats> freshStats = new ConcurrentHashMap<>();
+        Map<Long, Contribution> freshContributions = new HashMap<>();
+        try {
+            flowMetricsRepository.forEachCompletedTask(row -> replace(freshStats, freshContributions, row.id(), Contribution.of(row)));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                replayBuffer = null;
+            }
+            throw e;
+        }
+        
+        synchronized (lock) {
+            replayBuffer.forEach(event -> apply(freshStats, freshContributions, event));
+            replayBuffer = null;
+            stats = freshStats;
+            contributions = freshContributions;
+            syncedUntil = scanStart;
+        }
+        log.info("Loaded flow metrics for {} completed tasks in {} ms",
+                freshContributions.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${flow-metrics.sync-interval:PT30S}", initialDelayString = "${flow-metrics.sync-interval:PT30S}")
+    public synchronized void sync() {
+        LocalDateTime since;
+        synchronized (lock) {
+            if (syncedUntil == null) {
+                return;
+            }
+            since = syncedUntil.minus(syncOverlap);
+        }
+        LocalDateTime syncStart = LocalDateTime.now();
+        
+        List<Long> taskIds = flowMetricsRepository.findTaskIdsChangedSince(since);
+        for (int from = 0; from < taskIds.size(); from += SYNC_BATCH_SIZE) {
+            List<Long> batch = taskIds.subList(from, Math.min(from + SYNC_BATCH_SIZE, taskIds.size()));
+            Map<Long, Contribution> current = new HashMap<>();
+            flowMetricsRepository.findCompletedTasks(batch).forEach(row -> current.put(row.id(), Contribution.of(row)));
+            synchronized (lock) {
+                batch.forEach(taskId -> replace(stats, contributions, taskId, current.get(taskId)));
+            }
+        }
+        synchronized (lock) {
+            syncedUntil = syncStart;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Archived tasks keep their contribution, as rebuild and sync read tasks_archive too
+        if (event.isArchival()) {
+            return;
+        }
+        
+        synchronized (lock) {
+            if (replayBuffer != null) {
+                replayBuffer.add(event);
+            }
+            apply(stats, contributions, event);
+        }
+    }
+
+    @Override
+    public FlowMetricsDTO getFlowMetrics(Long projectId, Long assigneeId, TaskPriority priority, int weeks) {
+        if (weeks < 1 || weeks > 520) {
+            throw new IllegalArgumentException("weeks must be between 1 and 520");
+        }
+        
+        QuantileSketch cycleTime = new QuantileSketch(relativeAccuracy);
+        QuantileSketch leadTime = new QuantileSketch(relativeAccuracy);
+        TreeMap<LocalDate, Long> throughput = new TreeMap<>();
+        
+        stats.forEach((key, cell) -> {
+            if (key.matches(projectId, assigneeId, priority)) {
+                synchronized (cell) {
+                    cycleTime.merge(cell.cycleTime);
+                    leadTime.merge(cell.leadTime);
+                    cell.weeklyCompletions.forEach((week, count) -> throughput.merge(week, count, Long::sum));
+                }
+            }
+        });
+        
+        LocalDate currentWeek = weekStart(LocalDate.now());
+        List<ThroughputPointDTO> weeklyThroughput = new ArrayList<>(weeks);
+        for (LocalDate week = currentWeek.minusWeeks(weeks - 1); !week.isAfter(currentWeek); week = week.plusWeeks(1)) {
+            weeklyThroughput.add(ThroughputPointDTO.builder()
+                    .weekStart(week)
+                    .completedTasks(throughput.getOrDefault(week, 0L))
+                    .build());
+        }
+        
+        return FlowMetricsDTO.builder()
+                .projectId(projectId)
+                .assigneeId(assigneeId)
+                .priority(priority)
+                .cycleTime(toPercentiles(cycleTime))
+                .leadTime(toPercentiles(leadTime))
+                .weeklyThroughput(weeklyThroughput)
+                .build();
+    }
+    
+    private void apply(Map<FlowKey, FlowStats> target, Map<Long, Contribution> byTask, TaskChangedEvent event) {
+        TaskSnapshot current = event.getCurrent();
+        replace(target, byTask, event.getTaskId(), counted(current) ? Contribution.of(current) : null);
+    }
+    
+    private void replace(Map<FlowKey, FlowStats> target, Map<Long, Contribution> byTask, Long taskId,
+                         Contribution contribution) {
+        Contribution previous = contribution != null ? byTask.put(taskId, contribution) : byTask.remove(taskId);
+        if (Objects.equals(previous, contribution)) {
+            return;
+        }
+        if (previous != null) {
+            remove(target, previous);
+        }
+        if (contribution != null) {
+            add(target, contribution);
+        }
+    }
+    
+    private void add(Map<FlowKey, FlowStats> target, Contribution contribution) {
+        FlowStats cell = target.computeIfAbsent(contribution.key(), k -> new FlowStats(relativeAccuracy));
+        synchronized (cell) {
+            if (contribution.createdAt() != null) {
+                cell.leadTime.add(hoursBetween(contribution.createdAt(), contribution.completedAt()));
+            }
+            if (contribution.startedAt() != null) {
+                cell.cycleTime.add(hoursBetween(contribution.startedAt(), contribution.completedAt()));
+            }
+            cell.weeklyCompletions.merge(weekStart(contribution.completedAt().toLocalDate()), 1L, Long::sum);
+        }
+    }
+    
+    private void remove(Map<FlowKey, FlowStats> target, Contribution contribution) {
+        FlowStats cell = target.get(contribution.key());
+        if (cell == null) {
+            return;
+        }
+        synchronized (cell) {
+            if (contribution.createdAt() != null) {
+                cell.leadTime.remove(hoursBetween(contribution.createdAt(), contribution.completedAt()));
+            }
+            if (contribution.startedAt() != null) {
+                cell.cycleTime.remove(hoursBetween(contribution.startedAt(), contribution.completedAt()));
+            }
+            cell.weeklyCompletions.computeIfPresent(weekStart(contribution.completedAt().toLocalDate()),
+                    (week, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+    
+    private static boolean counted(TaskSnapshot snapshot) {
+        return snapshot != null && snapshot.getStatus() == TaskStatus.DONE && snapshot.getCompletedAt() != null;
+    }
+    
+    private DurationPercentilesDTO toPercentiles(QuantileSketch sketch) {
+        boolean empty = sketch.getCount() == 0;
+        return DurationPercentilesDTO.builder()
+                .sampleCount(sketch.getCount())
+                .p50Hours(empty ? null : sketch.quantile(PERCENTILES[0]))
+                .p85Hours(empty ? null : sketch.quantile(PERCENTILES[1]))
+                .p95Hours(empty ? null : sketch.quantile(PERCENTILES[2]))
+                .build();
+    }
+    
+    private static double hoursBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).toMillis()) / 3_600_000.0;
+    }
+    
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record FlowKey(Long projectId, Long assigneeId, TaskPriority priority) {
+
+        boolean matches(Long projectId, Long assigneeId, TaskPriority priority) {
+            return (projectId == null || Objects.equals(this.projectId, projectId))
+                    && (assigneeId == null || Objects.equals(this.assigneeId, assigneeId))
+                    && (priority == null || this.priority == priority);
+        }
+    }
+
+    // What one completed task adds to the stats of its key
+    private record Contribution(FlowKey key, LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime completedAt) {
+
+        static Contribution of(TaskSnapshot snapshot) {
+            return new Contribution(new FlowKey(snapshot.getProjectId(), snapshot.getAssigneeId(), snapshot.getPriority()),
+                    snapshot.getCreatedAt(), snapshot.getStartedAt(), snapshot.getCompletedAt());
+        }
+
+        static Contribution of(CompletedTaskRow row) {
+            return new Contribution(new FlowKey(row.projectId(), row.assigneeId(), row.priority()),
+                    row.createdAt(), row.startedAt(), row.completedAt());
+        }
+    }
+
+    private static final class FlowStats {
+        final QuantileSketch cycleTime;
+        final QuantileSketch leadTime;
+        final Map<LocalDate, Long> weeklyCompletions = new TreeMap<>();
+
+        FlowStats(double relativeAccuracy) {
+            this.cycleTime = new QuantileSketch(relativeAccuracy);
+            this.leadTime = new QuantileSketch(relativeAccuracy);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.projectmanagement.analytics.service;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch with a bounded relative error. Values are counted in logarithmic
+ * buckets, so any quantile is within {@code relativeAccuracy} of the exact value, and two sketches
+ * with the same accuracy merge by adding bucket counts. Not thread-safe.
+ */
+public final class QuantileSketch {
+
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (value < 0 || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Sketch only accepts non-negative values");
+        }
+        
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount++;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / logGamma);
+            ensureCapacity(index, index);
+            counts[index - offset]++;
+        }
+        
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Takes back one earlier {@link #add} of the value. Min and max are kept as they were, so they
+     * remain bounds rather than exact extremes.
+     *
+     * @return false if no matching value was counted
+     */
+    public boolean remove(double value) {
+        if (value < 0 || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Sketch only accepts non-negative values");
+        }
+        
+        if (value < MIN_INDEXABLE_VALUE) {
+            if (zeroCount == 0) {
+                return false;
+            }
+            zeroCount--;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / logGamma);
+            if (index < offset || index >= offset + counts.length || counts[index - offset] == 0) {
+                return false;
+            }
+            counts[index - offset]--;
+        }
+        
+        count--;
+        if (count == 0) {
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+        }
+        return true;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(relativeAccuracy);
+        copy.merge(this);
+        return copy;
+    }
+
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return min;
+        }
+        
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(gamma, i + offset) / (gamma + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+    
+    private void ensureCapacity(int minIndex, int maxIndex) {
+        if (counts.length == 0) {
+            int capacity = Math.max(INITIAL_CAPACITY, maxIndex - minIndex + 1);
+            counts = new long[capacity];
+            offset = minIndex - (capacity - (maxIndex - minIndex + 1)) / 2;
+            return;
+        }
+        
+        int currentMax = offset + counts.length - 1;
+        if (minIndex >= offset && maxIndex <= currentMax) {
+            return;
+        }
+        
+        int newMin = Math.min(minIndex, offset);
+        int newMax = Math.max(maxIndex, currentMax);
+        int capacity = Math.max(counts.length * 2, newMax - newMin + 1);
+        int newOffset = minIndex < offset ? newMax - capacity + 1 : newMin;
+        long[] grown = new long[capacity];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{count=" + count + ", buckets=" + Arrays.stream(counts).filter(c -> c > 0).count() + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.projectmanagement.common.cluster;
+
+/**
+ * Local state that has to follow changes committed by any instance. Handlers receive every
+ * notification on their channel, including the ones this instance published itself.
+ */
+public interface ClusterInvalidationHandler {
+    
+    String channel();
+    
+    void onInvalidation(String payload);
+    
+    // Called after the listening connection was re-established, when notifications may have been missed
+    void onResync();
+}
@@ -0,0 +1,135 @@
+package com.projectmanagement.common.cluster;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one dedicated connection to the primary that LISTENs on the channels of all
+ * {@link ClusterInvalidationHandler}s and dispatches incoming notifications to them. After a
+ * lost connection every handler is asked to resync, since notifications sent in the meantime
+ * are gone.
+ */
+@Component
+@Slf4j
+public class ClusterInvalidationListener implements SmartLifecycle {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<String, List<ClusterInvalidationHandler>> handlersByChannel;
+    private final List<ClusterInvalidationHandler> handlers;
+    private final boolean enabled;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    public ClusterInvalidationListener(DataSourceProperties dataSourceProperties,
+                                       List<ClusterInvalidationHandler> handlers,
+                                       @Value("${cluster-invalidation.enabled:true}") boolean enabled,
+                                       @Value("${cluster-invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+                                       @Value("${cluster-invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.handlers = List.copyOf(handlers);
+        this.handlersByChannel = handlers.stream()
+                .collect(Collectors.groupingBy(ClusterInvalidationHandler::channel));
+        this.enabled = enabled;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || handlers.isEmpty()) {
+            return;
+        }
+        
+        running = true;
+        thread = new Thread(this::listen, "cluster-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlersByChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                if (reconnecting) {
+                    handlers.forEach(this::resync);
+                }
+                log.info("Listening for cluster invalidations on {}", handlersByChannel.keySet());
+                
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster invalidation connection lost, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void dispatch(PGNotification notification) {
+        for (ClusterInvalidationHandler handler : handlersByChannel.getOrDefault(notification.getName(), List.of())) {
+            try {
+                handler.onInvalidation(notification.getParameter());
+            } catch (RuntimeException e) {
+                log.error("Invalidation handler for {} failed on '{}'", notification.getName(),
+                        notification.getParameter(), e);
+            }
+        }
+    }
+    
+    private void resync(ClusterInvalidationHandler handler) {
+        try {
+            handler.onResync();
+        } catch (RuntimeException e) {
+            log.error("Resync of invalidation handler for {} failed", handler.channel(), e);
+        }
+    }
+}
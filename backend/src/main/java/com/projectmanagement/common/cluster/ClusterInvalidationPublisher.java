@@ -0,0 +1,21 @@
+package com.projectmanagement.common.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends invalidations through Postgres NOTIFY. Inside a transaction the notification is only
+ * delivered if and when it commits, so listeners never reload state that is not yet visible.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void publish(String channel, Object payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, channel, String.valueOf(payload));
+    }
+}
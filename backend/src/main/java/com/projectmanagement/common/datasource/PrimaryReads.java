@@ -0,0 +1,43 @@
+package com.projectmanagement.common.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs reads in a read-only transaction of their own that {@link ReplicaRoutingDataSource}
+ * always sends to the primary. Meant for cache refills: right after an invalidation a replica
+ * may not have the change yet, and what it returns would stay cached until the next change.
+ * Callers should not hold a transaction of their own, which would be suspended meanwhile.
+ */
+@Component
+public class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T execute(Supplier<T> reads) {
+        if (isActive()) {
+            return reads.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return transactionTemplate.execute(status -> reads.get());
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
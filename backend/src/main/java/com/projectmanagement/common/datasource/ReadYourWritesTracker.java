@@ -0,0 +1,40 @@
+package com.projectmanagement.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers which principals wrote recently so that their reads stay on the primary
+ * until the replicas have had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickinessWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickinessWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+    
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,126 @@
+package com.projectmanagement.common.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions round-robin to healthy replicas and everything else to the
+ * primary. Must be wrapped in a LazyConnectionDataSourceProxy so the read-only flag of the
+ * transaction is known when the connection is actually fetched. Reads run through
+ * {@link PrimaryReads} always go to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            return PRIMARY;
+        }
+        
+        if (PrimaryReads.isActive() || readYourWritesTracker.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        
+        int replica = pickHealthyReplica();
+        return replica >= 0 ? REPLICA_PREFIX + replica : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        
+        int replica = Integer.parseInt(((String) key).substring(REPLICA_PREFIX.length()));
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            healthy.set(replica, 0);
+            log.warn("Replica {} unavailable, falling back to primary: {}", replica, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:PT10S}")
+    public void checkReplicaHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean valid;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                valid = connection.isValid(2);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            
+            int previous = healthy.getAndSet(i, valid ? 1 : 0);
+            if (previous == 1 && !valid) {
+                log.warn("Replica {} marked unhealthy", i);
+            } else if (previous == 0 && valid) {
+                log.info("Replica {} is healthy again", i);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+    
+    private int pickHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            if (healthy.get(candidate) == 1) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.projectmanagement.common.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult<T> {
+
+    public static final int MAX_IDS = 500;
+
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+    
+    @Builder.Default
+    private List<Long> missingIds = new ArrayList<>();
+
+    public static List<Long> distinctIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return new ArrayList<>(new LinkedHashSet<>(ids));
+    }
+
+    /**
+     * Arranges the loaded items in the order of the requested ids and lists the ids that were not found.
+     */
+    public static <T> BatchResult<T> of(List<Long> ids, Map<Long, T> found) {
+        BatchResult<T> result = new BatchResult<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item != null) {
+                result.items.add(item);
+            } else {
+                result.missingIds.add(id);
+            }
+        }
+        return result;
+    }
+
+    public static <E, T> BatchResult<T> of(List<Long> ids, Collection<E> entities,
+                                           Function<E, Long> idOf, Function<E, T> mapper) {
+        Map<Long, T> found = new HashMap<>();
+        entities.forEach(entity -> found.put(idOf.apply(entity), mapper.apply(entity)));
+        return of(ids, found);
+    }
+}
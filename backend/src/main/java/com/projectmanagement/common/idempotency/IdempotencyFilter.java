@@ -0,0 +1,317 @@
+package com.projectmanagement.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.common.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Makes POST, PUT and PATCH requests that carry an Idempotency-Key header safe to retry. The first
+ * request with a key runs and its response is stored in memory and in the database; retries get
+ * that response replayed. Retries arriving while the first request still runs wait for its result
+ * on this instance, or get a 409 when another instance holds the key, which it keeps renewing
+ * until the request finishes. Only JSON or empty bodies up to {@code max-body-size} are covered;
+ * bulk uploads such as the CSV/NDJSON user import stream past this filter.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+    private final Counter replayedCounter;
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.replayedCounter = meterRegistry.counter("idempotency.replayed");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null
+                || !isJsonOrEmpty(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            reject(response, HttpStatus.BAD_REQUEST, HEADER + " must be 1 to " + properties.getMaxKeyLength() + " characters");
+            return;
+        }
+        
+        long maxBodySize = properties.getMaxBodySize().toBytes();
+        CachedBodyRequest cachedRequest = request.getContentLengthLong() <= maxBodySize
+                ? CachedBodyRequest.read(request, maxBodySize)
+                : null;
+        if (cachedRequest == null) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests with an " + HEADER + " must not exceed " + properties.getMaxBodySize().toKilobytes() + " KB");
+            return;
+        }
+        // Query parameters select what the request does as much as the body, e.g. PUT /tasks/1/status?status=DONE
+        String query = Objects.toString(request.getQueryString(), "");
+        String requestHash = sha256((query + "\n").getBytes(StandardCharsets.UTF_8), cachedRequest.body);
+        String keyHash = sha256((caller() + "\n" + request.getMethod() + "\n" + request.getRequestURI() + "\n" + key)
+                .getBytes(StandardCharsets.UTF_8));
+        
+        while (true) {
+            StoredResponse stored = findStored(keyHash);
+            if (stored != null) {
+                replay(stored, requestHash, response);
+                return;
+            }
+            
+            CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(keyHash, claim);
+            if (running != null) {
+                try {
+                    stored = running.get(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    reject(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is already in progress");
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the original request");
+                    return;
+                } catch (ExecutionException e) {
+                    stored = null;
+                }
+                if (stored != null) {
+                    replay(stored, requestHash, response);
+                    return;
+                }
+                // The first request failed without storing a response; try to run this one instead
+                continue;
+            }
+            
+            try {
+                execute(keyHash, requestHash, cachedRequest, response, filterChain, claim);
+            } finally {
+                inFlight.remove(keyHash, claim);
+            }
+            return;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = store.purgeExpired();
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.renew-interval:PT10S}")
+    public void renewClaims() {
+        if (!claimed.isEmpty()) {
+            store.renew(Set.copyOf(claimed));
+        }
+    }
+
+    private void execute(String keyHash, String requestHash, CachedBodyRequest request, HttpServletResponse response,
+                         FilterChain filterChain, CompletableFuture<StoredResponse> claim) throws ServletException, IOException {
+        StoredResponse result = null;
+        try {
+            if (!store.claim(keyHash, requestHash, properties.getTtl(), properties.getInFlightTimeout())) {
+                result = store.findCompleted(keyHash).orElse(null);
+                if (result != null) {
+                    replay(result, requestHash, response);
+                } else {
+                    reject(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is already in progress");
+                }
+                return;
+            }
+            claimed.add(keyHash);
+            
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            boolean completed = false;
+            try {
+                filterChain.doFilter(request, wrapper);
+                // Server errors are not recorded, so the client can retry them with the same key
+                if (wrapper.getStatus() < 500) {
+                    result = new StoredResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                            wrapper.getContentAsByteArray());
+                    store.complete(keyHash, result);
+                    responses.put(keyHash, result);
+                    completed = true;
+                }
+            } finally {
+                claimed.remove(keyHash);
+                if (!completed) {
+                    store.release(keyHash);
+                }
+                wrapper.copyBodyToResponse();
+            }
+        } finally {
+            claim.complete(result);
+        }
+    }
+
+    private StoredResponse findStored(String keyHash) {
+        StoredResponse stored = responses.getIfPresent(keyHash);
+        if (stored == null) {
+            stored = store.findCompleted(keyHash).orElse(null);
+            if (stored != null) {
+                responses.put(keyHash, stored);
+            }
+        }
+        return stored;
+    }
+
+    private void replay(StoredResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used for a different request");
+            return;
+        }
+        replayedCounter.increment();
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+
+    private static boolean isJsonOrEmpty(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static String sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // The body is read up front to fingerprint the request and then served again to the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        // Returns null if the body is larger than maxBodySize, which a chunked request only reveals while reading
+        private static CachedBodyRequest read(HttpServletRequest request, long maxBodySize) throws IOException {
+            byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodySize + 1, Integer.MAX_VALUE - 8));
+            return body.length <= maxBodySize ? new CachedBodyRequest(request, body) : null;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
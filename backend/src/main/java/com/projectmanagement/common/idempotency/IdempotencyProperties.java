@@ -0,0 +1,27 @@
+package com.projectmanagement.common.idempotency;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    
+    // How long a stored response is replayed for the same key
+    private Duration ttl = Duration.ofHours(24);
+    
+    // How long retries wait for the first request, and after which an abandoned claim can be taken over
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+    
+    // How often running requests renew their claim; must stay well below the in-flight timeout
+    private Duration renewInterval = Duration.ofSeconds(10);
+    
+    // Bodies are buffered to fingerprint them; larger requests are rejected rather than held in memory
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    
+    private long cacheMaximumSize = 10_000;
+    private int maxKeyLength = 255;
+}
@@ -0,0 +1,76 @@
+package com.projectmanagement.common.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Database side of the idempotency keys, shared by all instances. Every call runs in its own
+ * auto-committed statement so a claim is visible to other instances immediately.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims the key for a new request. Fails while another request holds a live claim or a stored
+     * response has not yet expired; expired rows and claims not renewed within the in-flight timeout
+     * are taken over.
+     */
+    public boolean claim(String keyHash, String requestHash, Duration ttl, Duration inFlightTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(
+                "INSERT INTO idempotency_keys (key_hash, request_hash, created_at, expires_at) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (key_hash) DO UPDATE SET request_hash = EXCLUDED.request_hash, status_code = NULL, "
+                + "content_type = NULL, body = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at "
+                + "WHERE idempotency_keys.expires_at < EXCLUDED.created_at "
+                + "OR (idempotency_keys.status_code IS NULL AND idempotency_keys.created_at < ?)",
+                keyHash, requestHash, now, now.plus(ttl), now.minus(inFlightTimeout)) > 0;
+    }
+
+    /**
+     * Extends the claims of requests that are still running, so that a request slower than the
+     * in-flight timeout is not taken over by a retry on another instance.
+     */
+    public void renew(Collection<String> keyHashes) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(
+                "UPDATE idempotency_keys SET created_at = ? WHERE key_hash = ? AND status_code IS NULL",
+                keyHashes.stream().map(keyHash -> new Object[] {now, keyHash}).toList());
+    }
+
+    public Optional<StoredResponse> findCompleted(String keyHash) {
+        List<StoredResponse> responses = jdbcTemplate.query(
+                "SELECT request_hash, status_code, content_type, body FROM idempotency_keys "
+                + "WHERE key_hash = ? AND status_code IS NOT NULL AND expires_at > ?",
+                (rs, rowNum) -> new StoredResponse(
+                        rs.getString("request_hash"),
+                        rs.getInt("status_code"),
+                        rs.getString("content_type"),
+                        rs.getBytes("body")),
+                keyHash, LocalDateTime.now());
+        return responses.stream().findFirst();
+    }
+
+    public void complete(String keyHash, StoredResponse response) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status_code = ?, content_type = ?, body = ? WHERE key_hash = ?",
+                response.status(), response.contentType(), response.body(), keyHash);
+    }
+
+    // Drops a claim whose request failed, so that a retry executes again
+    public void release(String keyHash) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE key_hash = ? AND status_code IS NULL", keyHash);
+    }
+
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", LocalDateTime.now());
+    }
+}
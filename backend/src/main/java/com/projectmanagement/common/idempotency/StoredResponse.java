@@ -0,0 +1,7 @@
+package com.projectmanagement.common.idempotency;
+
+/**
+ * Response recorded for an idempotency key, together with a hash of the request body it answered.
+ */
+public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 public class KafkaProducerService {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> binaryKafkaTemplate;
     private final ObjectMapper objectMapper;
 
     public <T> void sendMessage(String topic, String key, T message) {
@@ -25,4 +26,14 @@ public class KafkaProducerService {
             throw new RuntimeException("Error serializing message", e);
         }
     }
-} 
\ No newline at end of file
+
+    public void sendEvent(String topic, String key, byte[] payload) {
+        log.debug("Sending binary event to topic: {}, key: {}, {} bytes", topic, key, payload.length);
+        binaryKafkaTemplate.send(topic, key, payload)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Error sending event to topic {} with key {}: {}", topic, key, ex.getMessage());
+                    }
+                });
+    }
+}
@@ -0,0 +1,91 @@
+package com.projectmanagement.common.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads payloads produced by {@link EventWriter}. Callers loop over {@link #nextField()} and use
+ * {@link #skipField()} for tags they do not know, which keeps old readers working on newer events.
+ */
+public final class EventReader {
+
+    private final byte[] data;
+    private int position;
+    private int tag;
+    private int wireType;
+
+    public EventReader(byte[] data) {
+        this.data = data;
+    }
+
+    public int readHeader() {
+        if (data.length == 0 || data[0] != EventWriter.MAGIC) {
+            throw new IllegalArgumentException("Payload is not a binary event");
+        }
+        position = 1;
+        return (int) readRawVarint();
+    }
+
+    public boolean nextField() {
+        if (position >= data.length) {
+            return false;
+        }
+        long key = readRawVarint();
+        tag = (int) (key >>> 3);
+        wireType = (int) (key & 0x7);
+        return true;
+    }
+
+    public int tag() {
+        return tag;
+    }
+
+    public int wireType() {
+        return wireType;
+    }
+
+    public long readLong() {
+        expectWireType(EventWriter.WIRE_VARINT);
+        long raw = readRawVarint();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        expectWireType(EventWriter.WIRE_LENGTH_DELIMITED);
+        int length = (int) readRawVarint();
+        if (length < 0 || position + length > data.length) {
+            throw new IllegalArgumentException("Truncated string field " + tag);
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public void skipField() {
+        switch (wireType) {
+            case EventWriter.WIRE_VARINT -> readRawVarint();
+            case EventWriter.WIRE_LENGTH_DELIMITED -> position += (int) readRawVarint();
+            default -> throw new IllegalArgumentException("Unknown wire type " + wireType + " for field " + tag);
+        }
+    }
+    
+    private void expectWireType(int expected) {
+        if (wireType != expected) {
+            throw new IllegalArgumentException("Field " + tag + " has wire type " + wireType + ", expected " + expected);
+        }
+    }
+    
+    private long readRawVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            byte b = data[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,45 @@
+package com.projectmanagement.common.kafka.codec;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One version of an event schema as stored under classpath:event-schemas. Fields are identified on
+ * the wire by their tag only, so names may change but tags and types may not.
+ */
+public record EventSchema(String subject, int version, List<Field> fields) {
+
+    public Optional<Field> field(int tag) {
+        return fields.stream().filter(field -> field.tag() == tag).findFirst();
+    }
+
+    public Field requireField(String name) {
+        return fields.stream()
+                .filter(field -> field.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Schema " + subject + " v" + version + " has no field " + name));
+    }
+
+    public record Field(int tag, String name, FieldType type, List<String> symbols) {
+
+        public int symbolIndex(String symbol) {
+            int index = symbols.indexOf(symbol);
+            if (index < 0) {
+                throw new IllegalArgumentException("Symbol " + symbol + " is not registered for field " + name);
+            }
+            return index;
+        }
+    }
+
+    public enum FieldType {
+        LONG,
+        STRING,
+        ENUM,
+        DATE,
+        TIMESTAMP;
+
+        public int wireType() {
+            return this == STRING ? EventWriter.WIRE_LENGTH_DELIMITED : EventWriter.WIRE_VARINT;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.projectmanagement.common.kafka.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * File-based stand-in for a schema registry. Every classpath:event-schemas/*.json file holds one
+ * version of one subject. On startup each version is checked against the earlier ones: a tag keeps
+ * its type forever and enum symbols may only be appended, so readers and writers on different
+ * versions can still exchange events.
+ */
+@Component
+@Slf4j
+public class EventSchemaRegistry {
+
+    private static final String LOCATION = "classpath*:event-schemas/*.json";
+
+    private final Map<String, NavigableMap<Integer, EventSchema>> schemas = new HashMap<>();
+
+    public EventSchemaRegistry(ObjectMapper objectMapper) {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                try (InputStream in = resource.getInputStream()) {
+                    register(parse(objectMapper.readTree(in)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load event schemas", e);
+        }
+        schemas.values().forEach(this::checkCompatibility);
+        log.info("Loaded event schemas: {}", schemas.keySet());
+    }
+
+    public EventSchema latest(String subject) {
+        return versions(subject).lastEntry().getValue();
+    }
+
+    /**
+     * Returns the requested version, or the latest known one for events written by a newer producer;
+     * unknown tags in such events are skipped.
+     */
+    public EventSchema get(String subject, int version) {
+        NavigableMap<Integer, EventSchema> versions = versions(subject);
+        EventSchema schema = versions.get(version);
+        return schema != null ? schema : versions.lastEntry().getValue();
+    }
+
+    public Map<String, Object> decode(String subject, byte[] payload) {
+        EventReader reader = new EventReader(payload);
+        EventSchema schema = get(subject, reader.readHeader());
+        Map<String, Object> values = new LinkedHashMap<>();
+        while (reader.nextField()) {
+            EventSchema.Field field = schema.field(reader.tag()).orElse(null);
+            if (field == null) {
+                reader.skipField();
+                continue;
+            }
+            values.put(field.name(), switch (field.type()) {
+                case LONG -> reader.readLong();
+                case STRING -> reader.readString();
+                case ENUM -> symbol(field, reader.readLong());
+                case DATE -> LocalDate.ofEpochDay(reader.readLong());
+                case TIMESTAMP -> Instant.ofEpochMilli(reader.readLong());
+            });
+        }
+        return values;
+    }
+    
+    private static String symbol(EventSchema.Field field, long index) {
+        return index >= 0 && index < field.symbols().size() ? field.symbols().get((int) index) : null;
+    }
+    
+    private NavigableMap<Integer, EventSchema> versions(String subject) {
+        NavigableMap<Integer, EventSchema> versions = schemas.get(subject);
+        if (versions == null) {
+            throw new IllegalArgumentException("No event schema registered for subject " + subject);
+        }
+        return versions;
+    }
+    
+    private void register(EventSchema schema) {
+        EventSchema existing = schemas.computeIfAbsent(schema.subject(), s -> new TreeMap<>())
+                .putIfAbsent(schema.version(), schema);
+        if (existing != null) {
+            throw new IllegalStateException("Duplicate schema " + schema.subject() + " v" + schema.version());
+        }
+    }
+    
+    private void checkCompatibility(NavigableMap<Integer, EventSchema> versions) {
+        List<EventSchema> ordered = new ArrayList<>(versions.values());
+        for (int i = 1; i < ordered.size(); i++) {
+            EventSchema newer = ordered.get(i);
+            for (EventSchema older : ordered.subList(0, i)) {
+                for (EventSchema.Field oldField : older.fields()) {
+                    newer.field(oldField.tag()).ifPresent(newField -> {
+                        if (newField.type() != oldField.type()) {
+                            throw incompatible(newer, "changes the type of tag " + oldField.tag());
+                        }
+                        if (newField.symbols().size() < oldField.symbols().size()
+                                || !newField.symbols().subList(0, oldField.symbols().size()).equals(oldField.symbols())) {
+                            throw incompatible(newer, "reorders or removes symbols of tag " + oldField.tag());
+                        }
+                    });
+                }
+            }
+        }
+    }
+    
+    private static IllegalStateException incompatible(EventSchema schema, String reason) {
+        return new IllegalStateException("Schema " + schema.subject() + " v" + schema.version() + " " + reason);
+    }
+    
+    private static EventSchema parse(JsonNode node) {
+        List<EventSchema.Field> fields = new ArrayList<>();
+        for (JsonNode field : node.path("fields")) {
+            List<String> symbols = new ArrayList<>();
+            field.path("symbols").forEach(symbol -> symbols.add(symbol.asText()));
+            fields.add(new EventSchema.Field(
+                    field.path("tag").asInt(),
+                    field.path("name").asText(),
+                    EventSchema.FieldType.valueOf(field.path("type").asText().toUpperCase(Locale.ROOT)),
+                    List.copyOf(symbols)));
+        }
+        return new EventSchema(node.path("subject").asText(), node.path("version").asInt(), List.copyOf(fields));
+    }
+}
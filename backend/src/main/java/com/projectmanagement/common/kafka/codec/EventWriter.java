@@ -0,0 +1,88 @@
+package com.projectmanagement.common.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes the compact event encoding: a magic byte and schema version, followed by tagged fields.
+ * Each field starts with a varint key {@code tag << 3 | wireType}; integers are zigzag varints and
+ * strings are length-prefixed UTF-8. Null values are simply omitted.
+ *
+ * <p>Writers are reused per thread through {@link #forCurrentThread()}, so encoding an event only
+ * allocates the final byte array handed to Kafka.
+ */
+public final class EventWriter {
+
+    public static final byte MAGIC = (byte) 0xE1;
+    public static final int WIRE_VARINT = 0;
+    public static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<EventWriter> WRITERS = ThreadLocal.withInitial(EventWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    private EventWriter() {
+    }
+
+    public static EventWriter forCurrentThread() {
+        EventWriter writer = WRITERS.get();
+        if (writer.buffer.length > MAX_RETAINED_CAPACITY) {
+            writer.buffer = new byte[INITIAL_CAPACITY];
+        }
+        writer.position = 0;
+        return writer;
+    }
+
+    public EventWriter header(int schemaVersion) {
+        ensureCapacity(1);
+        buffer[position++] = MAGIC;
+        writeRawVarint(schemaVersion);
+        return this;
+    }
+
+    public EventWriter writeLong(int tag, Long value) {
+        if (value != null) {
+            writeRawVarint(key(tag, WIRE_VARINT));
+            writeRawVarint((value << 1) ^ (value >> 63));
+        }
+        return this;
+    }
+
+    public EventWriter writeString(int tag, String value) {
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeRawVarint(key(tag, WIRE_LENGTH_DELIMITED));
+            writeRawVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+    
+    private static long key(int tag, int wireType) {
+        return ((long) tag << 3) | wireType;
+    }
+    
+    private void writeRawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.projectmanagement.common.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Builds a tuple query that selects only the requested attributes of an entity, so that
+ * unrequested columns are neither read from the database nor serialized. Filtering and sorting
+ * take the same {@link Specification} and {@link Sort} as the full-entity queries.
+ */
+public final class FieldProjection<T> {
+
+    private final Class<T> entityType;
+    private final Map<String, Function<Root<T>, Path<?>>> fields;
+
+    public FieldProjection(Class<T> entityType, Map<String, Function<Root<T>, Path<?>>> fields) {
+        this.entityType = entityType;
+        this.fields = fields;
+    }
+
+    public List<Map<String, Object>> query(EntityManager entityManager, Set<String> requestedFields,
+                                           BiFunction<CriteriaBuilder, Root<T>, List<Predicate>> filter) {
+        Specification<T> spec = (root, query, cb) -> cb.and(filter.apply(cb, root).toArray(new Predicate[0]));
+        return query(entityManager, requestedFields, spec, Sort.unsorted());
+    }
+
+    public List<Map<String, Object>> query(EntityManager entityManager, Set<String> requestedFields,
+                                           Specification<T> spec, Sort sort) {
+        validate(requestedFields);
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : requestedFields) {
+            selections.add(fields.get(field).apply(root).alias(field));
+        }
+        query.multiselect(selections);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort.and(Sort.by("id")), root, cb));
+        
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : requestedFields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private void validate(Set<String> requestedFields) {
+        if (requestedFields == null || requestedFields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        
+        for (String field : requestedFields) {
+            if (!fields.containsKey(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field + ". Supported fields: " + fields.keySet());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.projectmanagement.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free concurrency limit that adapts to observed latency (AIMD). The baseline is a long-term
+ * average over roughly the last few hundred samples, compared with a short-term average over the
+ * last few. While the short-term average stays within {@code latencyTolerance} times the baseline
+ * and the limit is actually in use, the limit grows by one; beyond that it shrinks by
+ * {@code backoffRatio}. Comparing averages rather than the fastest response ever seen keeps an
+ * endpoint with naturally mixed latencies from backing off under normal load, and a permanently
+ * slower backend becomes the new normal as the baseline follows it. With {@code adaptive = false}
+ * it is a plain fixed-size bulkhead.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_TERM_SMOOTHING = 0.2;
+    private static final double LONG_TERM_SMOOTHING = 0.005;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile int limit;
+    private long samples;
+    private double baselineNanos;
+    private double shortTermNanos;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, boolean adaptive, double latencyTolerance, double backoffRatio) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.adaptive = adaptive;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * @return the number of requests in flight including this one, or 0 if the limit is reached
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * @param inFlightAtStart the value returned by the matching {@link #tryAcquire()}
+     */
+    public void release(int inFlightAtStart, long latencyNanos) {
+        inFlight.decrementAndGet();
+        // Samples that arrive while another thread is updating are skipped rather than waited for
+        if (adaptive && updating.compareAndSet(false, true)) {
+            try {
+                update(inFlightAtStart, latencyNanos);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    /**
+     * Releases a permit without taking its latency into account, e.g. for failed requests whose
+     * latency says nothing about the capacity of the endpoint.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int available() {
+        return Math.max(0, limit - inFlight.get());
+    }
+    
+    private void update(int inFlightAtStart, long latencyNanos) {
+        // A plain mean until there are enough samples for the long-term average to be meaningful
+        samples++;
+        baselineNanos = average(baselineNanos, latencyNanos, Math.max(LONG_TERM_SMOOTHING, 1.0 / samples));
+        shortTermNanos = average(shortTermNanos, latencyNanos, SHORT_TERM_SMOOTHING);
+        
+        int current = limit;
+        if (shortTermNanos > baselineNanos * latencyTolerance) {
+            limit = Math.max(minLimit, (int) (current * backoffRatio));
+            // Start the next comparison from the baseline so one slow burst backs off only once
+            shortTermNanos = baselineNanos;
+        } else if (inFlightAtStart * 2 >= current) {
+            limit = Math.min(maxLimit, current + 1);
+        }
+    }
+    
+    private static double average(double average, long sample, double smoothing) {
+        return average == 0 ? sample : average + (sample - average) * smoothing;
+    }
+}
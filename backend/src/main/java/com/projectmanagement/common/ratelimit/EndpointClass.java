@@ -0,0 +1,7 @@
+package com.projectmanagement.common.ratelimit;
+
+public enum EndpointClass {
+    LIST,
+    SINGLE_READ,
+    WRITE
+}
@@ -0,0 +1,90 @@
+package com.projectmanagement.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+/**
+ * Resolves the controller method a request will be dispatched to and classifies it by its
+ * {@link RateLimitClass}, so the bulkhead follows the endpoint rather than the shape of its URL.
+ * Runs in the security filter chain, before the DispatcherServlet has parsed the request path.
+ */
+public class EndpointClassifier {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final Map<HandlerMethod, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public EndpointClassifier(ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.handlerMapping = handlerMapping;
+    }
+
+    public EndpointClass classify(HttpServletRequest request) {
+        return resolve(request).endpointClass();
+    }
+
+    /**
+     * Resolves the handler as well as its class; requests without a unique handler share one
+     * endpoint per class.
+     */
+    public Endpoint resolve(HttpServletRequest request) {
+        HandlerMethod handler = findHandler(request);
+        if (handler != null) {
+            return endpoints.computeIfAbsent(handler,
+                    method -> new Endpoint(method.getShortLogMessage(), classOf(method)));
+        }
+        EndpointClass endpointClass = defaultClass(request.getMethod());
+        return new Endpoint("unmapped " + endpointClass.name().toLowerCase(), endpointClass);
+    }
+    
+    private HandlerMethod findHandler(HttpServletRequest request) {
+        RequestPath previous = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : null;
+        ServletRequestPathUtils.parseAndCache(request);
+        try {
+            HandlerExecutionChain chain = handlerMapping.getObject().getHandler(request);
+            return chain != null && chain.getHandler() instanceof HandlerMethod method ? method : null;
+        } catch (Exception e) {
+            // No unique match (e.g. 404 or 405); the DispatcherServlet reports it later
+            return null;
+        } finally {
+            if (previous != null) {
+                ServletRequestPathUtils.setParsedRequestPath(previous, request);
+            } else {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+    
+    private static EndpointClass classOf(HandlerMethod handler) {
+        RateLimitClass annotation = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), RateLimitClass.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), RateLimitClass.class);
+        }
+        if (annotation != null) {
+            return annotation.value();
+        }
+        
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), RequestMapping.class);
+        return mapping != null && Arrays.asList(mapping.method()).contains(RequestMethod.GET)
+                ? EndpointClass.LIST
+                : EndpointClass.WRITE;
+    }
+    
+    private static EndpointClass defaultClass(String method) {
+        return "GET".equalsIgnoreCase(method) ? EndpointClass.LIST : EndpointClass.WRITE;
+    }
+
+    public record Endpoint(String handler, EndpointClass endpointClass) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.projectmanagement.common.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a handler method (or every method of a controller) into the given bulkhead. Without it,
+ * GET handlers count as {@link EndpointClass#LIST} and everything else as {@link EndpointClass#WRITE}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimitClass {
+    EndpointClass value();
+}
@@ -0,0 +1,208 @@
+package com.projectmanagement.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.common.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies a per-user token bucket (limits chosen by role), a fixed concurrency bulkhead per
+ * endpoint class and, below it, an adaptive concurrency limit per handler that shrinks while that
+ * handler slows down. All checks are non-blocking; a rejected request gets an immediate 429. Only
+ * successful responses feed the adaptive limits, and async or streaming responses hold their
+ * permits until they complete.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RateLimitProperties properties;
+    private final EndpointClassifier endpointClassifier;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> bulkheads = new EnumMap<>(EndpointClass.class);
+    private final Map<String, AdaptiveConcurrencyLimit> handlerLimits = new ConcurrentHashMap<>();
+    private final Map<EndpointClass, Counter> rateRejections = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> bulkheadRejections = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimitProperties properties, EndpointClassifier endpointClassifier,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.endpointClassifier = endpointClassifier;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleBucketExpiry())
+                .build();
+        
+        RateLimitProperties.Bulkheads limits = properties.getBulkheads();
+        bulkheads.put(EndpointClass.LIST, new AdaptiveConcurrencyLimit(limits.getList(), limits.getList(), false, 0, 0));
+        bulkheads.put(EndpointClass.SINGLE_READ,
+                new AdaptiveConcurrencyLimit(limits.getSingleRead(), limits.getSingleRead(), false, 0, 0));
+        bulkheads.put(EndpointClass.WRITE, new AdaptiveConcurrencyLimit(limits.getWrite(), limits.getWrite(), false, 0, 0));
+        
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase();
+            AdaptiveConcurrencyLimit bulkhead = bulkheads.get(endpointClass);
+            Gauge.builder("ratelimit.bulkhead.available", bulkhead, AdaptiveConcurrencyLimit::available)
+                    .tag("endpointClass", tag)
+                    .register(meterRegistry);
+            rateRejections.put(endpointClass, Counter.builder("ratelimit.rejected")
+                    .tag("endpointClass", tag)
+                    .tag("reason", "rate")
+                    .register(meterRegistry));
+            bulkheadRejections.put(endpointClass, Counter.builder("ratelimit.rejected")
+                    .tag("endpointClass", tag)
+                    .tag("reason", "bulkhead")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("ratelimit.buckets.active", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClassifier.Endpoint endpoint = endpointClassifier.resolve(request);
+        EndpointClass endpointClass = endpoint.endpointClass();
+        
+        long waitNanos = bucketFor(request).tryConsume();
+        if (waitNanos > 0) {
+            rateRejections.get(endpointClass).increment();
+            reject(response, "Rate limit exceeded", Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+            return;
+        }
+        
+        AdaptiveConcurrencyLimit bulkhead = bulkheads.get(endpointClass);
+        if (bulkhead.tryAcquire() == 0) {
+            bulkheadRejections.get(endpointClass).increment();
+            reject(response, "Too many concurrent requests", 1);
+            return;
+        }
+        AdaptiveConcurrencyLimit handlerLimit = handlerLimits.computeIfAbsent(endpoint.handler(),
+                handler -> handlerLimit(handler, endpointClass));
+        int inFlight = handlerLimit.tryAcquire();
+        if (inFlight == 0) {
+            bulkhead.releaseWithoutSample();
+            bulkheadRejections.get(endpointClass).increment();
+            reject(response, "Too many concurrent requests", 1);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        boolean async = false;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+            if (request.isAsyncStarted()) {
+                // Streaming responses keep their permits until the last byte is written
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(bulkhead, handlerLimit, inFlight, start, response.getStatus() >= 400);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release(bulkhead, handlerLimit, inFlight, start, failed || response.getStatus() >= 400);
+            }
+        }
+    }
+    
+    // Error responses are often fast rejections and would drag the baseline down, so they are not sampled
+    private static void release(AdaptiveConcurrencyLimit bulkhead, AdaptiveConcurrencyLimit handlerLimit,
+                                int inFlight, long start, boolean failed) {
+        bulkhead.releaseWithoutSample();
+        if (failed) {
+            handlerLimit.releaseWithoutSample();
+        } else {
+            handlerLimit.release(inFlight, System.nanoTime() - start);
+        }
+    }
+    
+    private AdaptiveConcurrencyLimit handlerLimit(String handler, EndpointClass endpointClass) {
+        int maxLimit = bulkheads.get(endpointClass).getLimit();
+        RateLimitProperties.Adaptive adaptive = properties.getBulkheads().getAdaptive();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(Math.min(adaptive.getMinLimit(), maxLimit), maxLimit,
+                adaptive.isEnabled(), adaptive.getLatencyTolerance(), adaptive.getBackoffRatio());
+        Gauge.builder("ratelimit.handler.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("endpointClass", endpointClass.name().toLowerCase())
+                .tag("handler", handler)
+                .register(meterRegistry);
+        return limit;
+    }
+    
+    private TokenBucket bucketFor(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            RateLimitProperties.Limit limit = properties.getDefaultLimit();
+            return buckets.get("anonymous:" + request.getRemoteAddr(),
+                    key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond()));
+        }
+        
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .filter(properties.getRoles()::containsKey)
+                .max((a, b) -> Double.compare(
+                        properties.getRoles().get(a).getRefillPerSecond(),
+                        properties.getRoles().get(b).getRefillPerSecond()))
+                .orElse(null);
+        RateLimitProperties.Limit limit = role != null ? properties.getRoles().get(role) : properties.getDefaultLimit();
+        
+        return buckets.get(role + ":" + authentication.getName(),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond()));
+    }
+    
+    private void reject(HttpServletResponse response, String message, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), message, LocalDateTime.now()));
+    }
+}
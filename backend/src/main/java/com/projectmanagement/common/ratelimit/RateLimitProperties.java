@@ -0,0 +1,40 @@
+package com.projectmanagement.common.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Duration idleBucketExpiry = Duration.ofMinutes(10);
+    private Limit defaultLimit = new Limit();
+    private Map<String, Limit> roles = new HashMap<>();
+    private Bulkheads bulkheads = new Bulkheads();
+
+    @Data
+    public static class Limit {
+        private long capacity = 30;
+        private double refillPerSecond = 5;
+    }
+
+    // Maximum concurrent requests per endpoint class; the adaptive limit never grows beyond these
+    @Data
+    public static class Bulkheads {
+        private int list = 20;
+        private int singleRead = 60;
+        private int write = 40;
+        private Adaptive adaptive = new Adaptive();
+    }
+
+    @Data
+    public static class Adaptive {
+        private boolean enabled = true;
+        private int minLimit = 2;
+        private double latencyTolerance = 2.0;
+        private double backoffRatio = 0.9;
+    }
+}
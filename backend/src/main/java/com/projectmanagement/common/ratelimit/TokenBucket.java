@@ -0,0 +1,47 @@
+package com.projectmanagement.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm: the whole bucket
+ * state is a single "theoretical arrival time" updated with compare-and-set.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise the number of nanoseconds until one is available
+     */
+    public long tryConsume() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long availableTokens() {
+        long now = System.nanoTime();
+        long backlog = Math.max(theoreticalArrivalTime.get(), now) - now;
+        return Math.max(0, (burstNanos - backlog) / emissionIntervalNanos);
+    }
+}
@@ -0,0 +1,8 @@
+package com.projectmanagement.common.sql;
+
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String request, int maxQueries) {
+        super("Request " + request + " exceeded its SQL budget of " + maxQueries + " statements");
+    }
+}
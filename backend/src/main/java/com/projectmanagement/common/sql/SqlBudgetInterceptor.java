@@ -0,0 +1,34 @@
+package com.projectmanagement.common.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the {@link SqlBudget} of the controller method to the stats that {@link SqlRequestFilter}
+ * started for the request. Statements run before the handler was resolved count against it too.
+ */
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private final SqlInspectionProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null && handler instanceof HandlerMethod handlerMethod) {
+            stats.applyBudget(maxQueries(handlerMethod));
+        }
+        return true;
+    }
+    
+    private int maxQueries(HandlerMethod handlerMethod) {
+        SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        if (budget == null) {
+            budget = handlerMethod.getBeanType().getAnnotation(SqlBudget.class);
+        }
+        return budget != null ? budget.maxQueries() : properties.getDefaultMaxQueries();
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanagement.common.sql;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sql-inspection")
+public class SqlInspectionProperties {
+
+    public enum Mode {
+        LOG,
+        ENFORCE
+    }
+
+    private boolean enabled = true;
+    private Mode mode = Mode.LOG;
+    private int defaultMaxQueries = 50;
+    private Duration slowThreshold = Duration.ofMillis(500);
+    private int sampledStatements = 5;
+    private int maxBindValueLength = 64;
+}
@@ -0,0 +1,60 @@
+package com.projectmanagement.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tracks the SQL executed by each request, starting before any other filter so that statements
+ * run by authentication, rate limiting or idempotency count as well, and logs requests that are
+ * slow or over their {@link SqlBudget} together with the slowest statements and their bind values.
+ * Asynchronous handlers are reported when the container thread leaves, since the rest of their
+ * work runs on other threads.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlRequestFilter extends OncePerRequestFilter {
+
+    private final SqlInspectionProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // The budget of the handler is applied by SqlBudgetInterceptor once it is known
+        SqlRequestStats.begin(request.getMethod() + " " + request.getRequestURI(),
+                properties.getDefaultMaxQueries(),
+                properties.getMode() == SqlInspectionProperties.Mode.ENFORCE,
+                properties.getSampledStatements());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Also when async handling started: the container thread goes back to the pool
+            report(SqlRequestStats.end());
+        }
+    }
+    
+    private void report(SqlRequestStats stats) {
+        if (stats == null) {
+            return;
+        }
+        
+        boolean slow = stats.getElapsedMillis() >= properties.getSlowThreshold().toMillis();
+        if (stats.isOverBudget() || slow) {
+            StringBuilder message = new StringBuilder();
+            stats.getSlowest().forEach(statement -> message.append("\n  ")
+                    .append(statement.elapsedMillis()).append(" ms: ")
+                    .append(statement.sql()).append(' ')
+                    .append(statement.bindValues()));
+            log.warn("{} executed {} SQL statements (budget {}) in {} ms{}",
+                    stats.getRequest(), stats.getQueryCount(), stats.getMaxQueries(), stats.getElapsedMillis(), message);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} executed {} SQL statements in {} ms",
+                    stats.getRequest(), stats.getQueryCount(), stats.getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.projectmanagement.common.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SQL statements executed while handling one HTTP request. Bound to the request thread by
+ * {@link SqlRequestFilter}; only the slowest statements are kept with their bind values.
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+    private int maxQueries;
+    private final boolean enforce;
+    private final int sampleSize;
+    private final List<SampledStatement> slowest = new ArrayList<>();
+    private int queryCount;
+    private long elapsedMillis;
+
+    SqlRequestStats(String request, int maxQueries, boolean enforce, int sampleSize) {
+        this.request = request;
+        this.maxQueries = maxQueries;
+        this.enforce = enforce;
+        this.sampleSize = sampleSize;
+    }
+
+    static SqlRequestStats begin(String request, int maxQueries, boolean enforce, int sampleSize) {
+        SqlRequestStats stats = new SqlRequestStats(request, maxQueries, enforce, sampleSize);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void applyBudget(int maxQueries) {
+        this.maxQueries = maxQueries;
+    }
+
+    void beforeStatement() {
+        if (enforce && queryCount >= maxQueries) {
+            throw new SqlBudgetExceededException(request, maxQueries);
+        }
+    }
+
+    void afterStatement(String sql, String bindValues, long elapsed) {
+        queryCount++;
+        elapsedMillis += elapsed;
+        if (slowest.size() < sampleSize || elapsed > slowest.get(slowest.size() - 1).elapsedMillis()) {
+            if (slowest.size() == sampleSize) {
+                slowest.remove(slowest.size() - 1);
+            }
+            slowest.add(new SampledStatement(sql, bindValues, elapsed));
+            slowest.sort(Comparator.comparingLong(SampledStatement::elapsedMillis).reversed());
+        }
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public int getMaxQueries() {
+        return maxQueries;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isOverBudget() {
+        return queryCount > maxQueries;
+    }
+
+    public List<SampledStatement> getSlowest() {
+        return slowest;
+    }
+
+    public record SampledStatement(String sql, String bindValues, long elapsedMillis) {
+    }
+}
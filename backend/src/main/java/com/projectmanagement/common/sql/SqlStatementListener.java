@@ -0,0 +1,60 @@
+package com.projectmanagement.common.sql;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Feeds every statement executed through the proxied data source into the current request's
+ * {@link SqlRequestStats}. Statements outside an HTTP request are ignored.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private final int maxBindValueLength;
+
+    public SqlStatementListener(int maxBindValueLength) {
+        this.maxBindValueLength = maxBindValueLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.beforeStatement();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        
+        QueryInfo first = queryInfoList.get(0);
+        String sql = queryInfoList.size() == 1
+                ? first.getQuery()
+                : first.getQuery() + " [+" + (queryInfoList.size() - 1) + " more]";
+        stats.afterStatement(sql, firstBindValues(first), execInfo.getElapsedTime());
+    }
+    
+    private String firstBindValues(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        
+        String values = parameters.get(0).stream()
+                .map(operation -> abbreviate(operation.getArgs().length > 1 ? operation.getArgs()[1] : null))
+                .collect(Collectors.joining(", ", "[", "]"));
+        return parameters.size() > 1 ? values + " (" + parameters.size() + " parameter sets)" : values;
+    }
+    
+    private String abbreviate(Object value) {
+        String text = String.valueOf(value);
+        return text.length() > maxBindValueLength ? text.substring(0, maxBindValueLength) + "..." : text;
+    }
+}
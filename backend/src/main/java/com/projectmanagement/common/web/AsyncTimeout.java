@@ -0,0 +1,17 @@
+package com.projectmanagement.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timeout for the asynchronous part of a request handled by the annotated controller method, such
+ * as a streamed body, instead of the container default. Accepts a duration or a property
+ * placeholder, e.g. {@code "${task-export.request-timeout:PT30M}"}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AsyncTimeout {
+    String value();
+}
@@ -0,0 +1,46 @@
+package com.projectmanagement.common.web;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies the {@link AsyncTimeout} of the handler method just before its async processing starts,
+ * which is the last point where the timeout of the request can still be changed.
+ */
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final Environment environment;
+    private final Map<Method, Optional<Duration>> timeouts = new ConcurrentHashMap<>();
+
+    public AsyncTimeoutInterceptor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                        RequestAttributes.SCOPE_REQUEST) instanceof HandlerMethod handler) {
+            timeouts.computeIfAbsent(handler.getMethod(), method -> timeoutOf(handler))
+                    .ifPresent(timeout -> asyncRequest.setTimeout(timeout.toMillis()));
+        }
+    }
+    
+    private Optional<Duration> timeoutOf(HandlerMethod handler) {
+        return Optional.ofNullable(handler.getMethodAnnotation(AsyncTimeout.class))
+                .map(annotation -> DurationStyle.detectAndParse(
+                        environment.resolveRequiredPlaceholders(annotation.value())));
+    }
+}
@@ -0,0 +1,69 @@
+package com.projectmanagement.config;
+
+import com.projectmanagement.common.datasource.ReadYourWritesTracker;
+import com.projectmanagement.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSourceProperties properties,
+                                                             Environment environment) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getPools().size(); i++) {
+            replicas.add(replicaDataSource(i, properties.getPools().get(i), environment));
+        }
+        
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                new ReadYourWritesTracker(properties.getStickinessWindow()));
+    }
+
+    // Replicas share the primary's pool settings (timeouts, leak detection, ...) unless overridden per pool
+    static HikariDataSource replicaDataSource(int index, ReplicaDataSourceProperties.Pool pool, Environment environment) {
+        HikariDataSource replica = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica-" + index);
+        replica.setJdbcUrl(pool.getUrl());
+        replica.setUsername(pool.getUsername());
+        replica.setPassword(pool.getPassword());
+        if (pool.getMaximumPoolSize() != null) {
+            replica.setMaximumPoolSize(pool.getMaximumPoolSize());
+        }
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.common.idempotency.IdempotencyFilter;
+import com.projectmanagement.common.idempotency.IdempotencyProperties;
+import com.projectmanagement.common.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyProperties properties, IdempotencyStore store,
+                                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new IdempotencyFilter(properties, store, objectMapper, meterRegistry);
+    }
+
+    // Registered inside the security filter chain only, so keys are scoped to the authenticated caller
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectmanagement.config;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Fetches the identity provider's JWKS ahead of time so that token validation never
+ * waits on the network. Keys stay cached if a refresh fails.
+ */
+@Component
+@Slf4j
+public class JwksRefresher {
+
+    private final Cache jwksCache;
+    private final RestTemplate restTemplate;
+    private final String jwkSetUri;
+    private final boolean enabled;
+
+    public JwksRefresher(Cache jwksCache,
+                         RestTemplateBuilder restTemplateBuilder,
+                         @Value("${security.jwt.jwk-set-uri:}") String jwkSetUri,
+                         @Value("${security.jwt.public-key-location:}") String publicKeyLocation) {
+        this.jwksCache = jwksCache;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build();
+        this.jwkSetUri = jwkSetUri;
+        this.enabled = StringUtils.hasText(jwkSetUri) && !StringUtils.hasText(publicKeyLocation);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.jwks-refresh-interval:PT5M}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            String jwkSet = restTemplate.getForObject(jwkSetUri, String.class);
+            if (StringUtils.hasText(jwkSet)) {
+                jwksCache.put(jwkSetUri, jwkSet);
+                log.debug("Refreshed JWKS from {}", jwkSetUri);
+            }
+        } catch (RestClientException e) {
+            log.warn("Could not refresh JWKS from {}, keeping cached keys: {}", jwkSetUri, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanagement.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.util.StringUtils;
+
+@Configuration
+public class JwtConfig {
+
+    public static final String JWKS_CACHE_NAME = "jwks";
+
+    @Value("${security.jwt.issuer-uri:}")
+    private String issuerUri;
+
+    @Value("${security.jwt.jwk-set-uri:}")
+    private String jwkSetUri;
+
+    @Value("${security.jwt.public-key-location:}")
+    private String publicKeyLocation;
+
+    @Bean
+    public Cache jwksCache() {
+        return new ConcurrentMapCache(JWKS_CACHE_NAME);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(Cache jwksCache, ResourceLoader resourceLoader) throws IOException {
+        NimbusJwtDecoder decoder;
+        if (StringUtils.hasText(publicKeyLocation)) {
+            // Local key pair, e.g. for tests or environments without Keycloak
+            decoder = NimbusJwtDecoder.withPublicKey(readPublicKey(resourceLoader.getResource(publicKeyLocation))).build();
+        } else {
+            decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+                    .cache(jwksCache)
+                    .build();
+        }
+        
+        if (StringUtils.hasText(issuerUri)) {
+            decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        }
+        
+        return decoder;
+    }
+
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(this::extractRealmRoles);
+        return converter;
+    }
+
+    private Collection<GrantedAuthority> extractRealmRoles(Jwt jwt) {
+        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
+        if (realmAccess == null || !(realmAccess.get("roles") instanceof Collection<?> roles)) {
+            return List.of();
+        }
+        
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList());
+    }
+
+    private RSAPublicKey readPublicKey(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return RsaKeyConverters.x509().convert(inputStream);
+        }
+    }
+}
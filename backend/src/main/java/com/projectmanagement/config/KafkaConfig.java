@@ -1,40 +1,42 @@
 package com.projectmanagement.config;
 
-import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 
 @Configuration
 public class KafkaConfig {
 
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
-
+    // Topics are created in the background by KafkaTopicInitializer rather than during refresh
     @Bean
-    public KafkaAdmin kafkaAdmin() {
-        Map<String, Object> configs = new HashMap<>();
-        configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        return new KafkaAdmin(configs);
+    public KafkaAdmin kafkaAdmin(KafkaProperties kafkaProperties) {
+        KafkaAdmin kafkaAdmin = new KafkaAdmin(kafkaProperties.buildAdminProperties());
+        kafkaAdmin.setAutoCreate(false);
+        kafkaAdmin.setFatalIfBrokerNotAvailable(false);
+        return kafkaAdmin;
     }
 
     @Bean
-    public NewTopic taskCreatedTopic() {
-        return TopicBuilder.name("task-created")
-                .partitions(3)
+    public NewTopic taskEventsTopic(@Value("${kafka.topics.task-events:task-updated}") String topic,
+                                    @Value("${kafka.topics.partitions:6}") int partitions) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
                 .replicas(1)
                 .build();
     }
 
     @Bean
-    public NewTopic taskUpdatedTopic() {
-        return TopicBuilder.name("task-updated")
+    public NewTopic taskCreatedTopic() {
+        return TopicBuilder.name("task-created")
                 .partitions(3)
                 .replicas(1)
                 .build();
@@ -79,4 +81,17 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
-} 
\ No newline at end of file
+
+    // Declared explicitly because a second KafkaTemplate bean makes Boot back off its own
+    @Bean
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    // Same producer settings as spring.kafka.producer, with raw byte[] values for encoded events
+    @Bean
+    public KafkaTemplate<String, byte[]> binaryKafkaTemplate(KafkaProperties kafkaProperties) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(), new StringSerializer(), new ByteArraySerializer()));
+    }
+}
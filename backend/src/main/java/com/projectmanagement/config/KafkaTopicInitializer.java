@@ -0,0 +1,31 @@
+package com.projectmanagement.config;
+
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the declared topics once the application is ready, off the startup path, instead of
+ * blocking context refresh on the broker.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaTopicInitializer {
+
+    private final KafkaAdmin kafkaAdmin;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeTopics() {
+        CompletableFuture.supplyAsync(kafkaAdmin::initialize)
+                .whenComplete((initialized, ex) -> {
+                    if (ex != null || !Boolean.TRUE.equals(initialized)) {
+                        log.warn("Kafka topics could not be initialized: {}", ex != null ? ex.getMessage() : "broker not available");
+                    }
+                });
+    }
+}
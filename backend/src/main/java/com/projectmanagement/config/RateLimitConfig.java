@@ -0,0 +1,40 @@
+package com.projectmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.common.ratelimit.EndpointClassifier;
+import com.projectmanagement.common.ratelimit.RateLimitFilter;
+import com.projectmanagement.common.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    // Looked up lazily: filters are created before the MVC infrastructure
+    @Bean
+    public EndpointClassifier endpointClassifier(
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        return new EndpointClassifier(handlerMapping);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, EndpointClassifier endpointClassifier,
+                                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, endpointClassifier, objectMapper, meterRegistry);
+    }
+
+    // Registered inside the security filter chain only, after the caller is authenticated
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,25 @@
+package com.projectmanagement.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaDataSourceProperties {
+    private boolean enabled;
+    private Duration stickinessWindow = Duration.ofSeconds(5);
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+    private List<Pool> pools = new ArrayList<>();
+
+    @Data
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        // Overrides spring.datasource.hikari.maximum-pool-size for this pool only
+        private Integer maximumPoolSize;
+    }
+}
@@ -1,5 +1,7 @@
 package com.projectmanagement.config;
 
+import com.projectmanagement.common.idempotency.IdempotencyFilter;
+import com.projectmanagement.common.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,13 +9,20 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -35,12 +44,26 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.POST, "/projects/**").hasAnyRole("PMO", "PROJECT_MANAGER")
             .requestMatchers(HttpMethod.PUT, "/projects/**").hasAnyRole("PMO", "PROJECT_MANAGER")
             .requestMatchers(HttpMethod.DELETE, "/projects/**").hasAnyRole("PMO", "PROJECT_MANAGER")
-            // Tasks endpoints
+            // Tasks endpoints; calendar clients cannot send a JWT, the feeds check their token instead
+            .requestMatchers(HttpMethod.GET, "/tasks/project/*/calendar", "/tasks/assignee/*/calendar").permitAll()
             .requestMatchers(HttpMethod.GET, "/tasks/**").authenticated()
+            .requestMatchers(HttpMethod.POST, "/tasks/*/restore").hasAnyRole("PMO", "PROJECT_MANAGER")
             .requestMatchers(HttpMethod.POST, "/tasks/**").hasAnyRole("PMO", "PROJECT_MANAGER", "DEVELOPER")
             .requestMatchers(HttpMethod.PUT, "/tasks/**").hasAnyRole("PMO", "PROJECT_MANAGER", "DEVELOPER")
             .requestMatchers(HttpMethod.DELETE, "/tasks/**").hasAnyRole("PMO", "PROJECT_MANAGER")
-            .anyRequest().authenticated();
+            // Workload endpoints
+            .requestMatchers(HttpMethod.GET, "/workload/**").hasAnyRole("PMO", "PROJECT_MANAGER")
+            // Analytics endpoints
+            .requestMatchers(HttpMethod.GET, "/analytics/**").hasAnyRole("PMO", "PROJECT_MANAGER")
+            .anyRequest().authenticated()
+            .and()
+            .oauth2ResourceServer()
+            .jwt()
+            .jwtAuthenticationConverter(jwtAuthenticationConverter);
+        
+        http.addFilterAfter(rateLimitFilter, BearerTokenAuthenticationFilter.class);
+        // After authorization, so a stored response is never replayed to a caller who may no longer send the request
+        http.addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
         
         return http.build();
     }
@@ -0,0 +1,61 @@
+package com.projectmanagement.config;
+
+import com.projectmanagement.common.sql.SqlBudgetInterceptor;
+import com.projectmanagement.common.sql.SqlInspectionProperties;
+import com.projectmanagement.common.sql.SqlRequestFilter;
+import com.projectmanagement.common.sql.SqlStatementListener;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "sql-inspection.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlInspectionProperties.class)
+@RequiredArgsConstructor
+public class SqlInspectionConfig implements WebMvcConfigurer {
+
+    private final SqlInspectionProperties properties;
+
+    // Static so the data source is wrapped before JPA and Flyway pick it up
+    @Bean
+    public static BeanPostProcessor sqlInspectingDataSourcePostProcessor(Environment environment) {
+        int maxBindValueLength = environment.getProperty("sql-inspection.max-bind-value-length", Integer.class, 64);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                        && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementListener(maxBindValueLength))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Ahead of the security filter chain, so that SQL run by filters is counted too
+    @Bean
+    public FilterRegistrationBean<SqlRequestFilter> sqlRequestFilter() {
+        FilterRegistrationBean<SqlRequestFilter> registration = new FilterRegistrationBean<>(new SqlRequestFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(properties));
+    }
+}
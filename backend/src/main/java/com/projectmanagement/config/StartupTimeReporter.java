@@ -0,0 +1,24 @@
+package com.projectmanagement.config;
+
+import java.lang.management.ManagementFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs how long the JVM took to get the context up, and whether CDS and AOT were in use.
+ */
+@Component
+@Slf4j
+public class StartupTimeReporter {
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        log.info("Startup completed in {} ms (JVM uptime {} ms, CDS {}, AOT {})",
+                event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                ManagementFactory.getRuntimeMXBean().getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile")),
+                Boolean.getBoolean("spring.aot.enabled"));
+    }
+}
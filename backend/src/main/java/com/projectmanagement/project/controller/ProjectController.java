@@ -1,11 +1,19 @@
 package com.projectmanagement.project.controller;
 
+import com.projectmanagement.common.dto.BatchResult;
+import com.projectmanagement.common.ratelimit.EndpointClass;
+import com.projectmanagement.common.ratelimit.RateLimitClass;
+import com.projectmanagement.common.sql.SqlBudget;
 import com.projectmanagement.project.domain.ProjectStatus;
 import com.projectmanagement.project.dto.CreateProjectRequest;
 import com.projectmanagement.project.dto.ProjectDTO;
+import com.projectmanagement.project.dto.TeamMembersRequest;
+import com.projectmanagement.project.dto.TeamMembershipChangeDTO;
 import com.projectmanagement.project.service.ProjectService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,10 +40,32 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
     public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
         return ResponseEntity.ok(projectService.getProjectById(id));
     }
 
+    @GetMapping("/batch")
+    @SqlBudget(maxQueries = 1)
+    public ResponseEntity<BatchResult<ProjectDTO>> getProjectsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(projectService.getProjectsByIds(ids));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
+    public ResponseEntity<Map<String, Object>> getProjectFieldsById(@PathVariable Long id, @RequestParam Set<String> fields) {
+        return ResponseEntity.ok(projectService.getProjectFieldsById(id, fields));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getProjectFields(
+            @RequestParam Set<String> fields,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) Long projectManagerId,
+            @RequestParam(required = false) Long teamMemberId) {
+        return ResponseEntity.ok(projectService.getProjectFields(fields, status, projectManagerId, teamMemberId));
+    }
+
     @GetMapping
     public ResponseEntity<List<ProjectDTO>> getAllProjects(
             @RequestParam(required = false) ProjectStatus status,
@@ -60,8 +90,10 @@ public class ProjectController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
-        return ResponseEntity.noContent().build();
+        if (projectService.deleteProject(id)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.accepted().build();
     }
 
     @PutMapping("/{id}/status")
@@ -78,4 +110,24 @@ public class ProjectController {
     public ResponseEntity<ProjectDTO> removeTeamMember(@PathVariable Long projectId, @PathVariable Long userId) {
         return ResponseEntity.ok(projectService.removeTeamMember(projectId, userId));
     }
+
+    @PutMapping("/{projectId}/members/{userId}")
+    public ResponseEntity<TeamMembershipChangeDTO> addMember(@PathVariable Long projectId, @PathVariable Long userId) {
+        return ResponseEntity.ok(projectService.addTeamMembers(projectId, List.of(userId)));
+    }
+
+    @DeleteMapping("/{projectId}/members/{userId}")
+    public ResponseEntity<TeamMembershipChangeDTO> removeMember(@PathVariable Long projectId, @PathVariable Long userId) {
+        return ResponseEntity.ok(projectService.removeTeamMembers(projectId, List.of(userId)));
+    }
+
+    @PostMapping("/{projectId}/members")
+    public ResponseEntity<TeamMembershipChangeDTO> addMembers(@PathVariable Long projectId, @Valid @RequestBody TeamMembersRequest request) {
+        return ResponseEntity.ok(projectService.addTeamMembers(projectId, request.getUserIds()));
+    }
+
+    @PostMapping("/{projectId}/members/remove")
+    public ResponseEntity<TeamMembershipChangeDTO> removeMembers(@PathVariable Long projectId, @Valid @RequestBody TeamMembersRequest request) {
+        return ResponseEntity.ok(projectService.removeTeamMembers(projectId, request.getUserIds()));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.projectmanagement.project.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMembersRequest {
+    
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 500, message = "At most 500 users can be changed at once")
+    private List<Long> userIds;
+}
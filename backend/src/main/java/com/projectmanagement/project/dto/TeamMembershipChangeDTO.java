@@ -0,0 +1,23 @@
+package com.projectmanagement.project.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMembershipChangeDTO {
+    private Long projectId;
+    
+    // Users whose membership actually changed; ids that were already in the requested state are left out
+    @Builder.Default
+    private List<Long> changedUserIds = new ArrayList<>();
+    
+    @Builder.Default
+    private List<Long> unknownUserIds = new ArrayList<>();
+}
@@ -0,0 +1,12 @@
+package com.projectmanagement.project.event;
+
+import lombok.Value;
+
+/**
+ * Published when a project and all of its tasks have been removed with set-based deletes, which
+ * do not publish a TaskChangedEvent per task.
+ */
+@Value
+public class ProjectDeletedEvent {
+    Long projectId;
+}
@@ -0,0 +1,33 @@
+package com.projectmanagement.project.event;
+
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * Published whenever the people belonging to a project (team members and project manager) may have
+ * changed. Either {@code memberIds} holds the complete membership after the change (empty for deleted
+ * projects), or it is null and {@code addedUserIds}/{@code removedUserIds} describe the delta.
+ */
+@Value
+public class ProjectMembershipChangedEvent {
+    Long projectId;
+    Set<Long> memberIds;
+    Set<Long> addedUserIds;
+    Set<Long> removedUserIds;
+
+    public static ProjectMembershipChangedEvent replaced(Long projectId, Set<Long> memberIds) {
+        return new ProjectMembershipChangedEvent(projectId, memberIds, Set.of(), Set.of());
+    }
+
+    public static ProjectMembershipChangedEvent added(Long projectId, Set<Long> userIds) {
+        return new ProjectMembershipChangedEvent(projectId, null, userIds, Set.of());
+    }
+
+    public static ProjectMembershipChangedEvent removed(Long projectId, Set<Long> userIds) {
+        return new ProjectMembershipChangedEvent(projectId, null, Set.of(), userIds);
+    }
+
+    public boolean isDelta() {
+        return memberIds == null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.projectmanagement.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectDeletionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long countTasks(Long projectId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tasks WHERE project_id = :projectId",
+                new MapSqlParameterSource("projectId", projectId),
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    // Subtasks living in other projects would otherwise block deleting their parent
+    public int detachForeignSubtasks(Long projectId) {
+        return jdbcTemplate.update(
+                "UPDATE tasks SET parent_task_id = NULL "
+                + "WHERE project_id <> :projectId "
+                + "AND parent_task_id IN (SELECT id FROM tasks WHERE project_id = :projectId)",
+                new MapSqlParameterSource("projectId", projectId));
+    }
+
+    // Leaves first, so every chunk satisfies the parent_task_id foreign key on its own
+    public int deleteLeafTasks(Long projectId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM tasks WHERE id IN ("
+                + "  SELECT t.id FROM tasks t WHERE t.project_id = :projectId"
+                + "  AND NOT EXISTS (SELECT 1 FROM tasks c WHERE c.parent_task_id = t.id)"
+                + "  LIMIT :limit)",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("limit", limit));
+    }
+
+    public int deleteArchivedTasks(Long projectId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM tasks_archive WHERE id IN ("
+                + "  SELECT id FROM tasks_archive WHERE project_id = :projectId LIMIT :limit)",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("limit", limit));
+    }
+
+    // Cascades to project_team, remaining tasks and the burndown tables
+    public boolean deleteProject(Long projectId) {
+        return jdbcTemplate.update(
+                "DELETE FROM projects WHERE id = :projectId",
+                new MapSqlParameterSource("projectId", projectId)) > 0;
+    }
+}
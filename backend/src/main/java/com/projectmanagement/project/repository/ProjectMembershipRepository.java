@@ -0,0 +1,77 @@
+package com.projectmanagement.project.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectMembershipRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Team members and project managers, as (userId, projectId) pairs
+    public void forEachMembership(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(
+                "SELECT user_id, project_id FROM project_team "
+                + "UNION "
+                + "SELECT project_manager_id, id FROM projects WHERE project_manager_id IS NOT NULL",
+                rs -> {
+                    consumer.accept(rs.getLong(1), rs.getLong(2));
+                });
+    }
+
+    // Same membership as forEachMembership, for one project
+    public List<Long> findMemberIds(Long projectId) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM project_team WHERE project_id = :projectId "
+                + "UNION "
+                + "SELECT project_manager_id FROM projects WHERE id = :projectId AND project_manager_id IS NOT NULL",
+                new MapSqlParameterSource("projectId", projectId),
+                Long.class);
+    }
+
+    // Same membership as forEachMembership, for one user
+    public List<Long> findProjectIds(Long userId) {
+        return jdbcTemplate.queryForList(
+                "SELECT project_id FROM project_team WHERE user_id = :userId "
+                + "UNION "
+                + "SELECT id FROM projects WHERE project_manager_id = :userId",
+                new MapSqlParameterSource("userId", userId),
+                Long.class);
+    }
+
+    // Returns the users that were not members before; unknown user ids are ignored
+    public List<Long> addMembers(Long projectId, Collection<Long> userIds) {
+        return jdbcTemplate.queryForList(
+                "INSERT INTO project_team (project_id, user_id) "
+                + "SELECT :projectId, u.id FROM users u WHERE u.id IN (:userIds) "
+                + "ON CONFLICT DO NOTHING "
+                + "RETURNING user_id",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("userIds", userIds),
+                Long.class);
+    }
+
+    // Returns the users that were members before
+    public List<Long> removeMembers(Long projectId, Collection<Long> userIds) {
+        return jdbcTemplate.queryForList(
+                "DELETE FROM project_team WHERE project_id = :projectId AND user_id IN (:userIds) RETURNING user_id",
+                new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("userIds", userIds),
+                Long.class);
+    }
+
+    public List<Long> findExistingUserIds(Collection<Long> userIds) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds),
+                Long.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.projectmanagement.project.repository;
 import com.projectmanagement.project.domain.Project;
 import com.projectmanagement.project.domain.ProjectStatus;
 import com.projectmanagement.user.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     List<Project> findByProjectManager(User projectManager);
     
     List<Project> findByStatus(ProjectStatus status);
@@ -19,4 +20,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByTeamMemberId(Long userId);
     
     Optional<Project> findByExternalId(String externalId);
+    
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectManager LEFT JOIN FETCH p.teamMembers WHERE p.id IN :ids")
+    List<Project> findAllWithMembersByIdIn(Collection<Long> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.projectmanagement.project.repository;
+
+import com.projectmanagement.project.domain.ProjectStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ProjectRepositoryCustom {
+    // projectIds, when not null, limits the result to those projects
+    List<Map<String, Object>> findProjected(Set<String> fields, ProjectStatus status, Long projectManagerId, Long teamMemberId,
+                                            Collection<Long> projectIds);
+    
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<String> fields);
+}
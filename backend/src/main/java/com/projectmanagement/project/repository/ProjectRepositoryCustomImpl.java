@@ -0,0 +1,72 @@
+package com.projectmanagement.project.repository;
+
+import com.projectmanagement.common.query.FieldProjection;
+import com.projectmanagement.project.domain.Project;
+import com.projectmanagement.project.domain.ProjectStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private static final FieldProjection<Project> PROJECTION = new FieldProjection<>(Project.class, projectFields());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjected(Set<String> fields, ProjectStatus status, Long projectManagerId, Long teamMemberId,
+                                                   Collection<Long> projectIds) {
+        return PROJECTION.query(entityManager, fields, (cb, root) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (projectIds != null) {
+                predicates.add(projectIds.isEmpty() ? cb.disjunction() : root.get("id").in(projectIds));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (projectManagerId != null) {
+                predicates.add(cb.equal(root.get("projectManager").get("id"), projectManagerId));
+            }
+            if (teamMemberId != null) {
+                predicates.add(cb.equal(root.join("teamMembers").get("id"), teamMemberId));
+            }
+            return predicates;
+        });
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<String> fields) {
+        return PROJECTION.query(entityManager, fields, (cb, root) -> List.of(cb.equal(root.get("id"), id)))
+                .stream()
+                .findFirst();
+    }
+    
+    private static Map<String, Function<Root<Project>, Path<?>>> projectFields() {
+        Map<String, Function<Root<Project>, Path<?>>> fields = new LinkedHashMap<>();
+        fields.put("id", root -> root.get("id"));
+        fields.put("name", root -> root.get("name"));
+        fields.put("description", root -> root.get("description"));
+        fields.put("startDate", root -> root.get("startDate"));
+        fields.put("targetEndDate", root -> root.get("targetEndDate"));
+        fields.put("actualEndDate", root -> root.get("actualEndDate"));
+        fields.put("status", root -> root.get("status"));
+        fields.put("estimatedEffortHours", root -> root.get("estimatedEffortHours"));
+        fields.put("actualEffortHours", root -> root.get("actualEffortHours"));
+        fields.put("externalId", root -> root.get("externalId"));
+        fields.put("projectManagerId", root -> root.get("projectManager").get("id"));
+        fields.put("createdAt", root -> root.get("createdAt"));
+        fields.put("updatedAt", root -> root.get("updatedAt"));
+        return fields;
+    }
+}
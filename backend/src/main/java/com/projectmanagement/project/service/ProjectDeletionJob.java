@@ -0,0 +1,77 @@
+package com.projectmanagement.project.service;
+
+import com.projectmanagement.project.event.ProjectDeletedEvent;
+import com.projectmanagement.project.event.ProjectMembershipChangedEvent;
+import com.projectmanagement.project.repository.ProjectDeletionRepository;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes large projects in the background. Tasks and archived tasks are removed in chunks,
+ * each in its own short transaction, before the project row itself goes.
+ */
+@Component
+@Slf4j
+public class ProjectDeletionJob {
+
+    private final ProjectDeletionRepository deletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public ProjectDeletionJob(ProjectDeletionRepository deletionRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${project-deletion.chunk-size:2000}") int chunkSize) {
+        this.deletionRepository = deletionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isRunning(Long projectId) {
+        return running.contains(projectId);
+    }
+
+    @Async
+    public void deleteInChunks(Long projectId) {
+        if (!running.add(projectId)) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            deletionRepository.detachForeignSubtasks(projectId);
+
+            long tasks = 0;
+            int deleted;
+            while ((deleted = deletionRepository.deleteLeafTasks(projectId, chunkSize)) > 0) {
+                tasks += deleted;
+            }
+            while ((deleted = deletionRepository.deleteArchivedTasks(projectId, chunkSize)) > 0) {
+                tasks += deleted;
+            }
+
+            // Listeners of these events run after commit, so publish inside the final transaction
+            transactionTemplate.executeWithoutResult(status -> {
+                if (deletionRepository.deleteProject(projectId)) {
+                    eventPublisher.publishEvent(ProjectMembershipChangedEvent.replaced(projectId, Set.of()));
+                    eventPublisher.publishEvent(new ProjectDeletedEvent(projectId));
+                }
+            });
+            log.info("Deleted project {} with {} tasks in {} ms",
+                    projectId, tasks, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Error deleting project {}: {}", projectId, e.getMessage(), e);
+        } finally {
+            running.remove(projectId);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.projectmanagement.project.service;
+
+import com.projectmanagement.common.cluster.ClusterInvalidationHandler;
+import com.projectmanagement.common.cluster.ClusterInvalidationPublisher;
+import com.projectmanagement.project.event.ProjectMembershipChangedEvent;
+import com.projectmanagement.project.repository.ProjectMembershipRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory user to project membership, held as a sorted long[] of project ids per user so a
+ * visibility check is a binary search and listing filters need no project_team join. Arrays are
+ * never modified in place; writers swap in new ones, so readers need no locking.
+ *
+ * <p>Changes made on other instances arrive as a project id over the "project_membership" channel,
+ * and that project's membership is read back from the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectMembershipIndex implements ClusterInvalidationHandler {
+
+    private static final String CHANNEL = "project_membership";
+    private static final long[] EMPTY = new long[0];
+
+    private final ProjectMembershipRepository membershipRepository;
+    private final ClusterInvalidationPublisher invalidationPublisher;
+    private final Map<Long, long[]> projectsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> usersByProject = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Map<Long, List<Long>> projects = new HashMap<>();
+        Map<Long, List<Long>> users = new HashMap<>();
+        membershipRepository.forEachMembership((userId, projectId) -> {
+            projects.computeIfAbsent(userId, id -> new ArrayList<>()).add(projectId);
+            users.computeIfAbsent(projectId, id -> new ArrayList<>()).add(userId);
+        });
+        
+        // Replaced entry by entry rather than cleared, so a reload never shows an empty index
+        projects.forEach((userId, projectIds) -> projectsByUser.put(userId, sorted(projectIds)));
+        projectsByUser.keySet().retainAll(projects.keySet());
+        users.forEach((projectId, userIds) -> usersByProject.put(projectId, sorted(userIds)));
+        usersByProject.keySet().retainAll(users.keySet());
+        loaded = true;
+        log.info("Loaded project membership index for {} users and {} projects", projects.size(), users.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void notifyMembershipChanged(ProjectMembershipChangedEvent event) {
+        invalidationPublisher.publish(CHANNEL, event.getProjectId());
+    }
+
+    // Applied here right after commit; the notification brings the other instances up to date
+    @TransactionalEventListener
+    public synchronized void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        
+        long[] previous = usersByProject.getOrDefault(event.getProjectId(), EMPTY);
+        replace(event.getProjectId(), previous, event.isDelta()
+                ? applyDelta(previous, sorted(event.getAddedUserIds()), sorted(event.getRemovedUserIds()))
+                : sorted(event.getMemberIds()));
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public synchronized void onInvalidation(String payload) {
+        if (!loaded) {
+            return;
+        }
+        
+        Long projectId = Long.valueOf(payload);
+        replace(projectId, usersByProject.getOrDefault(projectId, EMPTY), sorted(membershipRepository.findMemberIds(projectId)));
+    }
+
+    @Override
+    public void onResync() {
+        load();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean isMember(Long userId, Long projectId) {
+        return Arrays.binarySearch(projectsByUser.getOrDefault(userId, EMPTY), projectId) >= 0;
+    }
+
+    // Sorted and never modified; callers must not write to it
+    public long[] projectIdsOf(Long userId) {
+        return projectsByUser.getOrDefault(userId, EMPTY);
+    }
+    
+    private void replace(Long projectId, long[] previous, long[] updated) {
+        if (updated.length == 0) {
+            usersByProject.remove(projectId);
+        } else {
+            usersByProject.put(projectId, updated);
+        }
+        
+        for (long userId : previous) {
+            if (Arrays.binarySearch(updated, userId) < 0) {
+                projectsByUser.computeIfPresent(userId, (id, projectIds) -> {
+                    long[] remaining = remove(projectIds, projectId);
+                    return remaining.length == 0 ? null : remaining;
+                });
+            }
+        }
+        for (long userId : updated) {
+            if (Arrays.binarySearch(previous, userId) < 0) {
+                projectsByUser.merge(userId, new long[] {projectId}, ProjectMembershipIndex::union);
+            }
+        }
+    }
+    
+    private static long[] sorted(Collection<Long> ids) {
+        return ids == null ? EMPTY : ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+    
+    private static long[] applyDelta(long[] members, long[] added, long[] removed) {
+        long[] result = union(members, added);
+        for (long userId : removed) {
+            result = remove(result, userId);
+        }
+        return result;
+    }
+    
+    private static long[] union(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            merged[n++] = next;
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+    
+    private static long[] remove(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+}
@@ -1,17 +1,27 @@
 package com.projectmanagement.project.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.project.domain.ProjectStatus;
 import com.projectmanagement.project.dto.CreateProjectRequest;
 import com.projectmanagement.project.dto.ProjectDTO;
+import com.projectmanagement.project.dto.TeamMembershipChangeDTO;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface ProjectService {
     ProjectDTO createProject(CreateProjectRequest request);
     
     ProjectDTO getProjectById(Long id);
     
+    BatchResult<ProjectDTO> getProjectsByIds(List<Long> ids);
+    
     List<ProjectDTO> getAllProjects();
     
+    List<Map<String, Object>> getProjectFields(Set<String> fields, ProjectStatus status, Long projectManagerId, Long teamMemberId);
+    
+    Map<String, Object> getProjectFieldsById(Long id, Set<String> fields);
+    
     List<ProjectDTO> getProjectsByStatus(ProjectStatus status);
     
     List<ProjectDTO> getProjectsByProjectManager(Long projectManagerId);
@@ -20,11 +30,18 @@ public interface ProjectService {
     
     ProjectDTO updateProject(Long id, CreateProjectRequest request);
     
-    void deleteProject(Long id);
+    /**
+     * Returns false when the project is large enough to be deleted in the background.
+     */
+    boolean deleteProject(Long id);
     
     ProjectDTO addTeamMember(Long projectId, Long userId);
     
     ProjectDTO removeTeamMember(Long projectId, Long userId);
     
     ProjectDTO updateProjectStatus(Long id, ProjectStatus status);
-} 
\ No newline at end of file
+    
+    TeamMembershipChangeDTO addTeamMembers(Long projectId, List<Long> userIds);
+    
+    TeamMembershipChangeDTO removeTeamMembers(Long projectId, List<Long> userIds);
+}
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.projectmanagement.project.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.project.domain.Project;
 import com.projectmanagement.project.domain.ProjectStatus;
 import com.projectmanagement.project.dto.CreateProjectRequest;
 import com.projectmanagement.project.dto.ProjectDTO;
+import com.projectmanagement.project.dto.TeamMembershipChangeDTO;
+import com.projectmanagement.project.event.ProjectDeletedEvent;
+import com.projectmanagement.project.event.ProjectMembershipChangedEvent;
+import com.projectmanagement.project.repository.ProjectDeletionRepository;
+import com.projectmanagement.project.repository.ProjectMembershipRepository;
 import com.projectmanagement.project.repository.ProjectRepository;
 import com.projectmanagement.user.domain.User;
 import com.projectmanagement.user.dto.UserDTO;
@@ -11,9 +17,12 @@ import com.projectmanagement.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +32,14 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final ProjectMembershipRepository membershipRepository;
+    private final ProjectDeletionRepository deletionRepository;
+    private final ProjectDeletionJob deletionJob;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${project-deletion.async-threshold:5000}")
+    private long asyncDeletionThreshold;
 
     @Override
     @Transactional
@@ -53,29 +70,59 @@ public class ProjectServiceImpl implements ProjectService {
             project.setTeamMembers(teamMembers);
         }
         
-        return mapToDTO(projectRepository.save(project));
+        return saveAndPublishMembership(project);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectDTO getProjectById(Long id) {
+        visibilityService.checkCanView(id);
         return projectRepository.findById(id)
                 .map(this::mapToDTO)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResult<ProjectDTO> getProjectsByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        List<Project> projects = projectRepository.findAllWithMembersByIdIn(distinctIds).stream()
+                .filter(project -> visibilityService.canView(project.getId()))
+                .toList();
+        return BatchResult.of(distinctIds, projects, Project::getId, this::mapToDTO);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll().stream()
+        List<Project> projects = visibilityService.isRestricted()
+                ? projectRepository.findAllById(visibilityService.visibleProjectIds())
+                : projectRepository.findAll();
+        return projects.stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getProjectFields(Set<String> fields, ProjectStatus status, Long projectManagerId, Long teamMemberId) {
+        Set<Long> projectIds = visibilityService.isRestricted() ? visibilityService.visibleProjectIds() : null;
+        return projectRepository.findProjected(fields, status, projectManagerId, teamMemberId, projectIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProjectFieldsById(Long id, Set<String> fields) {
+        visibilityService.checkCanView(id);
+        return projectRepository.findProjectedById(id, fields)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByStatus(ProjectStatus status) {
         return projectRepository.findByStatus(status).stream()
+                .filter(project -> visibilityService.canView(project.getId()))
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -87,6 +134,7 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException("Project manager not found with id: " + projectManagerId));
         
         return projectRepository.findByProjectManager(projectManager).stream()
+                .filter(project -> visibilityService.canView(project.getId()))
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -99,6 +147,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         return projectRepository.findByTeamMemberId(userId).stream()
+                .filter(project -> visibilityService.canView(project.getId()))
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -132,17 +181,33 @@ public class ProjectServiceImpl implements ProjectService {
             project.setTeamMembers(teamMembers);
         }
         
-        return mapToDTO(projectRepository.save(project));
+        return saveAndPublishMembership(project);
     }
 
     @Override
     @Transactional
-    public void deleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new EntityNotFoundException("Project not found with id: " + id);
+    public boolean deleteProject(Long id) {
+        if (deletionJob.isRunning(id)) {
+            return false;
+        }
+        
+        long taskCount = deletionRepository.countTasks(id);
+        if (taskCount > asyncDeletionThreshold) {
+            if (!projectRepository.existsById(id)) {
+                throw new EntityNotFoundException("Project not found with id: " + id);
+            }
+            deletionJob.deleteInChunks(id);
+            return false;
         }
         
-        projectRepository.deleteById(id);
+        // Subtasks in other projects would otherwise block the cascade through parent_task_id
+        deletionRepository.detachForeignSubtasks(id);
+        if (!deletionRepository.deleteProject(id)) {
+            throw new EntityNotFoundException("Project not found with id: " + id);
+        }
+        eventPublisher.publishEvent(ProjectMembershipChangedEvent.replaced(id, Set.of()));
+        eventPublisher.publishEvent(new ProjectDeletedEvent(id));
+        return true;
     }
 
     @Override
@@ -156,7 +221,7 @@ public class ProjectServiceImpl implements ProjectService {
         
         project.getTeamMembers().add(user);
         
-        return mapToDTO(projectRepository.save(project));
+        return saveAndPublishMembership(project);
     }
 
     @Override
@@ -170,7 +235,38 @@ public class ProjectServiceImpl implements ProjectService {
         
         project.getTeamMembers().remove(user);
         
-        return mapToDTO(projectRepository.save(project));
+        return saveAndPublishMembership(project);
+    }
+
+    @Override
+    @Transactional
+    public TeamMembershipChangeDTO addTeamMembers(Long projectId, List<Long> userIds) {
+        List<Long> distinctIds = BatchResult.distinctIds(userIds);
+        requireProject(projectId);
+        
+        List<Long> added = membershipRepository.addMembers(projectId, distinctIds);
+        if (!added.isEmpty()) {
+            eventPublisher.publishEvent(ProjectMembershipChangedEvent.added(projectId, Set.copyOf(added)));
+        }
+        return membershipChange(projectId, distinctIds, added);
+    }
+
+    @Override
+    @Transactional
+    public TeamMembershipChangeDTO removeTeamMembers(Long projectId, List<Long> userIds) {
+        List<Long> distinctIds = BatchResult.distinctIds(userIds);
+        Project project = requireProject(projectId);
+        
+        List<Long> removed = membershipRepository.removeMembers(projectId, distinctIds);
+        // The project manager stays visible to the membership index even when leaving the team
+        Set<Long> leftProject = new HashSet<>(removed);
+        if (project.getProjectManager() != null) {
+            leftProject.remove(project.getProjectManager().getId());
+        }
+        if (!leftProject.isEmpty()) {
+            eventPublisher.publishEvent(ProjectMembershipChangedEvent.removed(projectId, leftProject));
+        }
+        return membershipChange(projectId, distinctIds, removed);
     }
 
     @Override
@@ -184,6 +280,38 @@ public class ProjectServiceImpl implements ProjectService {
         return mapToDTO(projectRepository.save(project));
     }
     
+    // Loads only the project row; teamMembers stays uninitialized
+    private Project requireProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    }
+    
+    private TeamMembershipChangeDTO membershipChange(Long projectId, List<Long> requestedIds, List<Long> changedIds) {
+        Set<Long> changed = new HashSet<>(changedIds);
+        List<Long> candidates = requestedIds.stream().filter(id -> !changed.contains(id)).toList();
+        Set<Long> existing = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(membershipRepository.findExistingUserIds(candidates));
+        
+        return TeamMembershipChangeDTO.builder()
+                .projectId(projectId)
+                .changedUserIds(requestedIds.stream().filter(changed::contains).toList())
+                .unknownUserIds(candidates.stream().filter(id -> !existing.contains(id)).toList())
+                .build();
+    }
+    
+    private ProjectDTO saveAndPublishMembership(Project project) {
+        Project saved = projectRepository.save(project);
+        Set<Long> memberIds = saved.getTeamMembers().stream()
+                .map(User::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (saved.getProjectManager() != null) {
+            memberIds.add(saved.getProjectManager().getId());
+        }
+        eventPublisher.publishEvent(ProjectMembershipChangedEvent.replaced(saved.getId(), memberIds));
+        return mapToDTO(saved);
+    }
+    
     private ProjectDTO mapToDTO(Project project) {
         ProjectDTO dto = ProjectDTO.builder()
                 .id(project.getId())
@@ -0,0 +1,20 @@
+package com.projectmanagement.project.service;
+
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import java.util.Set;
+
+public interface ProjectVisibilityService {
+    
+    // True when the current user may only see the projects they belong to
+    boolean isRestricted();
+    
+    boolean canView(Long projectId);
+    
+    // For requests that identify the user without a JWT, such as calendar feed tokens
+    boolean canView(AuthenticatedUser user, Long projectId);
+    
+    void checkCanView(Long projectId);
+    
+    // Only meaningful when isRestricted() is true
+    Set<Long> visibleProjectIds();
+}
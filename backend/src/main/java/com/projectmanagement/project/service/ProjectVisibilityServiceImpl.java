@@ -0,0 +1,93 @@
+package com.projectmanagement.project.service;
+
+import com.projectmanagement.project.repository.ProjectMembershipRepository;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import com.projectmanagement.user.service.CurrentUserService;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * PMO and project managers see every project; everyone else only sees projects they belong to.
+ * The decision is taken from the token's roles, so a caller without a local user sees nothing.
+ * Answers come from {@link ProjectMembershipIndex}, falling back to the database until it is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectVisibilityServiceImpl implements ProjectVisibilityService {
+
+    private static final Set<String> UNRESTRICTED_AUTHORITIES =
+            Set.of("ROLE_" + UserRole.PMO.name(), "ROLE_" + UserRole.PROJECT_MANAGER.name());
+
+    private final CurrentUserService currentUserService;
+    private final ProjectMembershipIndex membershipIndex;
+    private final ProjectMembershipRepository membershipRepository;
+
+    @Override
+    public boolean isRestricted() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .noneMatch(UNRESTRICTED_AUTHORITIES::contains);
+    }
+
+    @Override
+    public boolean canView(Long projectId) {
+        if (!isRestricted()) {
+            return true;
+        }
+        Long userId = currentUserId();
+        return userId != null && isMember(userId, projectId);
+    }
+
+    @Override
+    public boolean canView(AuthenticatedUser user, Long projectId) {
+        if (!user.isActive()) {
+            return false;
+        }
+        return user.getRole() == UserRole.PMO || user.getRole() == UserRole.PROJECT_MANAGER
+                || isMember(user.getId(), projectId);
+    }
+
+    @Override
+    public void checkCanView(Long projectId) {
+        if (!canView(projectId)) {
+            throw new AccessDeniedException("Not a member of project " + projectId);
+        }
+    }
+
+    @Override
+    public Set<Long> visibleProjectIds() {
+        if (!isRestricted()) {
+            throw new IllegalStateException("Current user is not restricted to member projects");
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return Set.of();
+        }
+        if (membershipIndex.isLoaded()) {
+            return Arrays.stream(membershipIndex.projectIdsOf(userId)).boxed().collect(Collectors.toSet());
+        }
+        return Set.copyOf(membershipRepository.findProjectIds(userId));
+    }
+    
+    private boolean isMember(Long userId, Long projectId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isMember(userId, projectId);
+        }
+        return membershipRepository.findProjectIds(userId).contains(projectId);
+    }
+    
+    private Long currentUserId() {
+        return currentUserService.getCurrentUser()
+                .map(AuthenticatedUser::getId)
+                .orElse(null);
+    }
+}
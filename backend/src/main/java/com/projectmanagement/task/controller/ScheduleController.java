@@ -0,0 +1,23 @@
+package com.projectmanagement.task.controller;
+
+import com.projectmanagement.task.dto.ProjectScheduleDTO;
+import com.projectmanagement.task.service.ScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/projects/{projectId}/schedule")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+
+    @GetMapping
+    public ResponseEntity<ProjectScheduleDTO> getProjectSchedule(@PathVariable Long projectId) {
+        return ResponseEntity.ok(scheduleService.getProjectSchedule(projectId));
+    }
+}
@@ -1,15 +1,38 @@
 package com.projectmanagement.task.controller;
 
+import com.projectmanagement.common.dto.BatchResult;
+import com.projectmanagement.common.ratelimit.EndpointClass;
+import com.projectmanagement.common.ratelimit.RateLimitClass;
+import com.projectmanagement.common.sql.SqlBudget;
+import com.projectmanagement.common.web.AsyncTimeout;
+import com.projectmanagement.task.domain.TaskPriority;
 import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.dto.CalendarFeedTokenDTO;
 import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.NormalizedTaskListDTO;
+import com.projectmanagement.task.dto.TaskBoardDTO;
+import com.projectmanagement.task.dto.TaskExportFilter;
+import com.projectmanagement.task.dto.TaskFilter;
 import com.projectmanagement.task.dto.TaskDTO;
+import com.projectmanagement.task.dto.TaskTransitionDTO;
+import com.projectmanagement.task.service.CalendarFeedService;
+import com.projectmanagement.task.service.TaskBoardService;
+import com.projectmanagement.task.service.TaskExportFormat;
+import com.projectmanagement.task.service.TaskExportService;
 import com.projectmanagement.task.service.TaskService;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,44 +40,137 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBoardService taskBoardService;
+    private final CalendarFeedService calendarFeedService;
 
     @PostMapping
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody CreateTaskRequest request) {
         return new ResponseEntity<>(taskService.createTask(request), HttpStatus.CREATED);
     }
 
+    @GetMapping("/export")
+    @AsyncTimeout("${task-export.request-timeout:PT30M}")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "CSV") TaskExportFormat format,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "true") boolean includeArchived,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TaskExportFilter filter = TaskExportFilter.builder()
+                .projectId(projectId)
+                .status(status)
+                .startDate(startDate)
+                .endDate(endDate)
+                .afterId(afterId)
+                .limit(limit)
+                .includeArchived(includeArchived)
+                .build();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(taskExportService.export(filter, format, gzip));
+    }
+
     @GetMapping("/{id}")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
         return ResponseEntity.ok(taskService.getTaskById(id));
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
+    public ResponseEntity<Map<String, Object>> getTaskFieldsById(@PathVariable Long id, @RequestParam Set<String> fields) {
+        return ResponseEntity.ok(taskService.getTaskFieldsById(id, fields));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getTaskFields(
+            @RequestParam Set<String> fields,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long parentTaskId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) Set<TaskPriority> priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            Sort sort) {
+        TaskFilter filter = new TaskFilter(projectId, assigneeId, parentTaskId, status, priority, dueFrom, dueTo);
+        return ResponseEntity.ok(taskService.getTaskFields(fields, filter, sort));
+    }
+
     @GetMapping
     public ResponseEntity<List<TaskDTO>> getTasks(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long assigneeId,
-            @RequestParam(required = false) TaskStatus status) {
-        
-        if (projectId != null && status != null) {
-            return ResponseEntity.ok(taskService.getTasksByProjectAndStatus(projectId, status));
-        } else if (assigneeId != null && status != null) {
-            return ResponseEntity.ok(taskService.getTasksByAssigneeAndStatus(assigneeId, status));
-        } else if (projectId != null) {
-            return ResponseEntity.ok(taskService.getTasksByProject(projectId));
-        } else if (assigneeId != null) {
-            return ResponseEntity.ok(taskService.getTasksByAssignee(assigneeId));
-        } else {
-            return ResponseEntity.ok(taskService.getAllTasks());
-        }
+            @RequestParam(required = false) Long parentTaskId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) Set<TaskPriority> priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            Sort sort) {
+        TaskFilter filter = new TaskFilter(projectId, assigneeId, parentTaskId, status, priority, dueFrom, dueTo);
+        return ResponseEntity.ok(taskService.findTasks(filter, sort));
+    }
+
+    @GetMapping("/normalized")
+    public ResponseEntity<NormalizedTaskListDTO> getNormalizedTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long parentTaskId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) Set<TaskPriority> priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            Sort sort) {
+        TaskFilter filter = new TaskFilter(projectId, assigneeId, parentTaskId, status, priority, dueFrom, dueTo);
+        return ResponseEntity.ok(NormalizedTaskListDTO.from(taskService.findTasks(filter, sort)));
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<TaskTransitionDTO>> getTaskHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getTaskHistory(id));
+    }
+
+    @GetMapping("/batch")
+    @SqlBudget(maxQueries = 3)
+    public ResponseEntity<BatchResult<TaskDTO>> getTasksByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
+    @GetMapping("/archived")
+    public ResponseEntity<List<TaskDTO>> getArchivedTasks(@RequestParam Long projectId) {
+        return ResponseEntity.ok(taskService.getArchivedTasksByProject(projectId));
+    }
+
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<TaskDTO> restoreTask(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.restoreTask(id));
     }
 
     @GetMapping("/overdue")
@@ -62,11 +178,49 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getOverdueTasks());
     }
 
+    @GetMapping("/assignee/{assigneeId}/next")
+    public ResponseEntity<List<TaskDTO>> getNextTasks(
+            @PathVariable Long assigneeId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(taskService.getNextTasks(assigneeId, limit));
+    }
+
     @GetMapping("/subtasks/{parentTaskId}")
     public ResponseEntity<List<TaskDTO>> getSubtasks(@PathVariable Long parentTaskId) {
         return ResponseEntity.ok(taskService.getSubtasks(parentTaskId));
     }
 
+    @GetMapping("/project/{projectId}/board")
+    public ResponseEntity<TaskBoardDTO> getTaskBoard(@PathVariable Long projectId) {
+        return ResponseEntity.ok(taskBoardService.getBoard(projectId));
+    }
+
+    @PostMapping("/calendar/token")
+    public ResponseEntity<CalendarFeedTokenDTO> createCalendarToken() {
+        return new ResponseEntity<>(new CalendarFeedTokenDTO(calendarFeedService.createFeedToken()), HttpStatus.CREATED);
+    }
+
+    // Returning null after checkNotModified sends the 304 it prepared without rendering the feed
+    @GetMapping("/project/{projectId}/calendar")
+    public ResponseEntity<byte[]> getProjectCalendar(@PathVariable Long projectId, @RequestParam String token,
+                                                     WebRequest webRequest) {
+        String version = calendarFeedService.getProjectFeedVersion(projectId, token);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return calendarResponse(calendarFeedService.getProjectFeed(projectId, token, version));
+    }
+
+    @GetMapping("/assignee/{assigneeId}/calendar")
+    public ResponseEntity<byte[]> getAssigneeCalendar(@PathVariable Long assigneeId, @RequestParam String token,
+                                                      WebRequest webRequest) {
+        String version = calendarFeedService.getAssigneeFeedVersion(assigneeId, token);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return calendarResponse(calendarFeedService.getAssigneeFeed(assigneeId, token, version));
+    }
+
     @GetMapping("/project/{projectId}/dateRange")
     public ResponseEntity<List<TaskDTO>> getTasksByProjectAndDateRange(
             @PathVariable Long projectId,
@@ -95,4 +249,51 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    @DeleteMapping
+    public ResponseEntity<BatchResult<Long>> deleteTasks(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
+
+    // checkNotModified has already set the ETag header
+    private ResponseEntity<byte[]> calendarResponse(byte[] feed) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .body(feed);
+    }
+
+    // "gzip;q=0" explicitly refuses gzip; "*" accepts it unless gzip is listed on its own
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim();
+            boolean accepted = qualityOf(parts) > 0;
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+    
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
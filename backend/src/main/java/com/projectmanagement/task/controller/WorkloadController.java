@@ -0,0 +1,39 @@
+package com.projectmanagement.task.controller;
+
+import com.projectmanagement.task.dto.UserWorkloadDTO;
+import com.projectmanagement.task.service.WorkloadService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/workload")
+@RequiredArgsConstructor
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    @GetMapping
+    public ResponseEntity<List<UserWorkloadDTO>> getWorkload(
+            @RequestParam(required = false) Set<Long> assigneeIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workloadService.getWorkload(assigneeIds, from, to));
+    }
+
+    @GetMapping("/users/{assigneeId}")
+    public ResponseEntity<UserWorkloadDTO> getUserWorkload(
+            @PathVariable Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workloadService.getUserWorkload(assigneeId, from, to));
+    }
+}
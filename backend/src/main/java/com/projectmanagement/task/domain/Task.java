@@ -12,11 +12,14 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Formula;
 
 @Entity
 @Table(name = "tasks")
@@ -41,6 +44,11 @@ public class Task extends BaseEntity {
     @Column(nullable = false)
     private TaskPriority priority;
 
+    // Computed by the database from priority (V8), for sorting in priority order
+    @Setter(AccessLevel.NONE)
+    @Formula("task_priority_rank(priority)")
+    private Short priorityRank;
+
     @Column(nullable = false)
     private LocalDate dueDate;
 
@@ -51,6 +59,10 @@ public class Task extends BaseEntity {
 
     private String externalId; // For Jira integration
 
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -62,4 +74,19 @@ public class Task extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_task_id")
     private Task parentTask;
+
+    public void changeStatus(TaskStatus newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        if (newStatus == TaskStatus.IN_PROGRESS && startedAt == null) {
+            startedAt = now;
+        }
+        if (newStatus == TaskStatus.DONE) {
+            if (status != TaskStatus.DONE) {
+                completedAt = now;
+            }
+        } else {
+            completedAt = null;
+        }
+        status = newStatus;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.projectmanagement.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarFeedTokenDTO {
+    // Passed as the token query parameter of the calendar feed URLs
+    private String token;
+}
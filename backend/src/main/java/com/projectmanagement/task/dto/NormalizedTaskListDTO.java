@@ -0,0 +1,39 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.user.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Task list where every referenced user is sent once in {@code users}, keyed by id,
+ * and tasks refer to their assignee only through {@code assigneeId}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedTaskListDTO {
+    @Builder.Default
+    private List<TaskDTO> tasks = new ArrayList<>();
+    
+    @Builder.Default
+    private Map<Long, UserDTO> users = new LinkedHashMap<>();
+
+    public static NormalizedTaskListDTO from(List<TaskDTO> tasks) {
+        NormalizedTaskListDTO normalized = NormalizedTaskListDTO.builder().build();
+        for (TaskDTO task : tasks) {
+            if (task.getAssignee() != null) {
+                normalized.getUsers().putIfAbsent(task.getAssignee().getId(), task.getAssignee());
+                task.setAssignee(null);
+            }
+            normalized.getTasks().add(task);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,27 @@
+package com.projectmanagement.task.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectScheduleDTO {
+    private Long projectId;
+    private LocalDate projectStart;
+    private LocalDate projectFinish;
+    private long totalDurationHours;
+    private int hoursPerDay;
+    
+    @Builder.Default
+    private List<Long> criticalPath = new ArrayList<>();
+    
+    @Builder.Default
+    private List<ScheduledTaskDTO> tasks = new ArrayList<>();
+}
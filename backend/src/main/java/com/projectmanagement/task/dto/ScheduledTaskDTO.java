@@ -0,0 +1,24 @@
+package com.projectmanagement.task.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledTaskDTO {
+    private Long taskId;
+    private long earliestStartHour;
+    private long earliestFinishHour;
+    private long latestStartHour;
+    private long latestFinishHour;
+    private long slackHours;
+    private boolean critical;
+    private LocalDate earliestFinishDate;
+    private LocalDate dueDate;
+    private boolean late;
+}
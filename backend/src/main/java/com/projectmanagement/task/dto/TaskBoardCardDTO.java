@@ -0,0 +1,21 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardCardDTO {
+    private Long id;
+    private String title;
+    private Long assigneeId;
+    private TaskPriority priority;
+    private LocalDate dueDate;
+    private Integer estimatedHours;
+}
@@ -0,0 +1,27 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDTO {
+
+    public enum Source {
+        READ_MODEL,
+        DATABASE
+    }
+
+    private Long projectId;
+    private Source source;
+    
+    // Every status is present; cards are ordered by priority (highest first), then due date
+    private Map<TaskStatus, List<TaskBoardCardDTO>> columns;
+}
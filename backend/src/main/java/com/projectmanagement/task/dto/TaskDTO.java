@@ -25,8 +25,10 @@ public class TaskDTO {
     private Integer actualHours;
     private String externalId;
     private Long projectId;
+    private Long assigneeId;
     private UserDTO assignee;
     private Long parentTaskId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived;
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDate;
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExportFilter {
+    private Long projectId;
+    private TaskStatus status;
+    
+    // Inclusive bounds on the due date
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    // Rows are exported in id order, so an interrupted export resumes from the last id received
+    private Long afterId;
+    private Integer limit;
+    
+    private boolean includeArchived;
+    
+    // Restricts the export to these projects when set
+    private Collection<Long> projectIds;
+}
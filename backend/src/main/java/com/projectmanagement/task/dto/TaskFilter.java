@@ -0,0 +1,29 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criteria for task listings; unset criteria do not restrict the result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private Long projectId;
+    private Long assigneeId;
+    private Long parentTaskId;
+    private Set<TaskStatus> statuses;
+    private Set<TaskPriority> priorities;
+    
+    // Inclusive bounds on the due date
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionDTO {
+    private Long taskId;
+    private Long projectId;
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private Long fromAssigneeId;
+    private Long toAssigneeId;
+    private LocalDateTime changedAt;
+    private String changedBy;
+}
@@ -0,0 +1,20 @@
+package com.projectmanagement.task.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWorkloadDTO {
+    private Long assigneeId;
+    private long totalOpenHours;
+    
+    @Builder.Default
+    private List<WeeklyWorkloadDTO> weeks = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.projectmanagement.task.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyWorkloadDTO {
+    private LocalDate weekStart;
+    private int isoYear;
+    private int isoWeek;
+    private long openHours;
+    private long openTasks;
+}
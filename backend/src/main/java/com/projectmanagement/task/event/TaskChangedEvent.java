@@ -0,0 +1,56 @@
+package com.projectmanagement.task.event;
+
+import java.util.Objects;
+import lombok.Value;
+
+/**
+ * Published by the task service whenever a task is created, updated or deleted.
+ * {@code previous} is null for created tasks and {@code current} is null for deleted ones.
+ * Moves into and out of tasks_archive are published as deletes and creates flagged as
+ * {@code archival}, since the task itself did not change.
+ */
+@Value
+public class TaskChangedEvent {
+    Long taskId;
+    TaskSnapshot previous;
+    TaskSnapshot current;
+    boolean archival;
+
+    public static TaskChangedEvent created(Long taskId, TaskSnapshot current) {
+        return new TaskChangedEvent(taskId, null, current, false);
+    }
+
+    public static TaskChangedEvent updated(Long taskId, TaskSnapshot previous, TaskSnapshot current) {
+        return new TaskChangedEvent(taskId, previous, current, false);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, TaskSnapshot previous) {
+        return new TaskChangedEvent(taskId, previous, null, false);
+    }
+
+    public static TaskChangedEvent archived(Long taskId, TaskSnapshot previous) {
+        return new TaskChangedEvent(taskId, previous, null, true);
+    }
+
+    public static TaskChangedEvent restored(Long taskId, TaskSnapshot current) {
+        return new TaskChangedEvent(taskId, null, current, true);
+    }
+
+    public boolean isCreated() {
+        return previous == null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+
+    public boolean affectsWorkload() {
+        if (previous == null || current == null) {
+            return true;
+        }
+        return previous.isOpen() != current.isOpen()
+                || !Objects.equals(previous.getAssigneeId(), current.getAssigneeId())
+                || !Objects.equals(previous.getDueDate(), current.getDueDate())
+                || !Objects.equals(previous.getEstimatedHours(), current.getEstimatedHours());
+    }
+}
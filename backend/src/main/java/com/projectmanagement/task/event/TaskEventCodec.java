@@ -0,0 +1,127 @@
+package com.projectmanagement.task.event;
+
+import com.projectmanagement.common.kafka.codec.EventReader;
+import com.projectmanagement.common.kafka.codec.EventSchema;
+import com.projectmanagement.common.kafka.codec.EventSchemaRegistry;
+import com.projectmanagement.common.kafka.codec.EventWriter;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary encoding of {@link TaskEventMessage} against the latest registered "task-event" schema.
+ * Tags and enum symbols are resolved from the schema once, at startup.
+ */
+@Component
+public class TaskEventCodec {
+
+    public static final String SUBJECT = "task-event";
+
+    private final int version;
+    private final EventSchema.Field changeType;
+    private final EventSchema.Field taskId;
+    private final EventSchema.Field projectId;
+    private final EventSchema.Field assigneeId;
+    private final EventSchema.Field status;
+    private final EventSchema.Field priority;
+    private final EventSchema.Field dueDate;
+    private final EventSchema.Field estimatedHours;
+    private final EventSchema.Field occurredAt;
+    private final EventSchema.Field previousStatus;
+    private final EventSchema.Field previousAssigneeId;
+    private final EventSchema.Field title;
+
+    public TaskEventCodec(EventSchemaRegistry schemaRegistry) {
+        EventSchema schema = schemaRegistry.latest(SUBJECT);
+        this.version = schema.version();
+        this.changeType = schema.requireField("changeType");
+        this.taskId = schema.requireField("taskId");
+        this.projectId = schema.requireField("projectId");
+        this.assigneeId = schema.requireField("assigneeId");
+        this.status = schema.requireField("status");
+        this.priority = schema.requireField("priority");
+        this.dueDate = schema.requireField("dueDate");
+        this.estimatedHours = schema.requireField("estimatedHours");
+        this.occurredAt = schema.requireField("occurredAt");
+        this.previousStatus = schema.requireField("previousStatus");
+        this.previousAssigneeId = schema.requireField("previousAssigneeId");
+        this.title = schema.requireField("title");
+    }
+
+    public byte[] encode(TaskEventMessage message) {
+        return EventWriter.forCurrentThread()
+                .header(version)
+                .writeLong(changeType.tag(), symbol(changeType, message.getChangeType()))
+                .writeLong(taskId.tag(), message.getTaskId())
+                .writeLong(projectId.tag(), message.getProjectId())
+                .writeLong(assigneeId.tag(), message.getAssigneeId())
+                .writeLong(status.tag(), symbol(status, message.getStatus()))
+                .writeLong(priority.tag(), symbol(priority, message.getPriority()))
+                .writeLong(dueDate.tag(), message.getDueDate() != null ? message.getDueDate().toEpochDay() : null)
+                .writeLong(estimatedHours.tag(), message.getEstimatedHours() != null ? message.getEstimatedHours().longValue() : null)
+                .writeLong(occurredAt.tag(), message.getOccurredAt() != null ? message.getOccurredAt().toEpochMilli() : null)
+                .writeLong(previousStatus.tag(), symbol(previousStatus, message.getPreviousStatus()))
+                .writeLong(previousAssigneeId.tag(), message.getPreviousAssigneeId())
+                .writeString(title.tag(), message.getTitle())
+                .toByteArray();
+    }
+
+    // Unknown tags are skipped and missing ones stay null, so any schema version can be read
+    public TaskEventMessage decode(byte[] payload) {
+        EventReader reader = new EventReader(payload);
+        reader.readHeader();
+        TaskEventMessage.TaskEventMessageBuilder builder = TaskEventMessage.builder();
+        while (reader.nextField()) {
+            int tag = reader.tag();
+            if (tag == changeType.tag()) {
+                builder.changeType(enumValue(TaskEventMessage.ChangeType.class, changeType, reader.readLong()));
+            } else if (tag == taskId.tag()) {
+                builder.taskId(reader.readLong());
+            } else if (tag == projectId.tag()) {
+                builder.projectId(reader.readLong());
+            } else if (tag == assigneeId.tag()) {
+                builder.assigneeId(reader.readLong());
+            } else if (tag == status.tag()) {
+                builder.status(enumValue(TaskStatus.class, status, reader.readLong()));
+            } else if (tag == priority.tag()) {
+                builder.priority(enumValue(TaskPriority.class, priority, reader.readLong()));
+            } else if (tag == dueDate.tag()) {
+                builder.dueDate(LocalDate.ofEpochDay(reader.readLong()));
+            } else if (tag == estimatedHours.tag()) {
+                builder.estimatedHours((int) reader.readLong());
+            } else if (tag == occurredAt.tag()) {
+                builder.occurredAt(Instant.ofEpochMilli(reader.readLong()));
+            } else if (tag == previousStatus.tag()) {
+                builder.previousStatus(enumValue(TaskStatus.class, previousStatus, reader.readLong()));
+            } else if (tag == previousAssigneeId.tag()) {
+                builder.previousAssigneeId(reader.readLong());
+            } else if (tag == title.tag()) {
+                builder.title(reader.readString());
+            } else {
+                reader.skipField();
+            }
+        }
+        return builder.build();
+    }
+    
+    private static Long symbol(EventSchema.Field field, Enum<?> value) {
+        return value != null ? (long) field.symbolIndex(value.name()) : null;
+    }
+    
+    // Symbols added by a newer schema that this build does not know decode as null
+    private static <E extends Enum<E>> E enumValue(Class<E> type, EventSchema.Field field, long index) {
+        List<String> symbols = field.symbols();
+        if (index < 0 || index >= symbols.size()) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(symbols.get((int) index))) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
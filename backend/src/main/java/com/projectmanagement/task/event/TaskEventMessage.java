@@ -0,0 +1,55 @@
+package com.projectmanagement.task.event;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Task change as published to Kafka. For deleted tasks the fields describe the task as it was
+ * before deletion.
+ */
+@Value
+@Builder
+public class TaskEventMessage {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    ChangeType changeType;
+    Long taskId;
+    String title;
+    Long projectId;
+    Long assigneeId;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDate dueDate;
+    Integer estimatedHours;
+    Instant occurredAt;
+    TaskStatus previousStatus;
+    Long previousAssigneeId;
+
+    public static TaskEventMessage from(TaskChangedEvent event, Instant occurredAt) {
+        TaskSnapshot previous = event.getPrevious();
+        TaskSnapshot state = event.isDeleted() ? previous : event.getCurrent();
+        return TaskEventMessage.builder()
+                .changeType(event.isCreated() ? ChangeType.CREATED : event.isDeleted() ? ChangeType.DELETED : ChangeType.UPDATED)
+                .taskId(event.getTaskId())
+                .title(state.getTitle())
+                .projectId(state.getProjectId())
+                .assigneeId(state.getAssigneeId())
+                .status(state.getStatus())
+                .priority(state.getPriority())
+                .dueDate(state.getDueDate())
+                .estimatedHours(state.getEstimatedHours())
+                .occurredAt(occurredAt)
+                .previousStatus(previous != null && !event.isDeleted() ? previous.getStatus() : null)
+                .previousAssigneeId(previous != null && !event.isDeleted() ? previous.getAssigneeId() : null)
+                .build();
+    }
+}
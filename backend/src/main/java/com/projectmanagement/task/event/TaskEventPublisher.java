@@ -0,0 +1,28 @@
+package com.projectmanagement.task.event;
+
+import com.projectmanagement.common.kafka.KafkaProducerService;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@ConditionalOnProperty(name = "kafka.task-events.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TaskEventPublisher {
+
+    private final KafkaProducerService kafkaProducerService;
+    private final TaskEventCodec codec;
+
+    @Value("${kafka.topics.task-events:task-updated}")
+    private String topic;
+
+    // Keyed by task id so all changes of one task land on the same partition in order
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        byte[] payload = codec.encode(TaskEventMessage.from(event, Instant.now()));
+        kafkaProducerService.sendEvent(topic, String.valueOf(event.getTaskId()), payload);
+    }
+}
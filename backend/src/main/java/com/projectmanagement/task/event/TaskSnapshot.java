@@ -0,0 +1,45 @@
+package com.projectmanagement.task.event;
+
+import com.projectmanagement.task.domain.Task;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TaskSnapshot {
+    Long projectId;
+    String title;
+    Long assigneeId;
+    Long parentTaskId;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDate dueDate;
+    Integer estimatedHours;
+    LocalDateTime createdAt;
+    LocalDateTime startedAt;
+    LocalDateTime completedAt;
+
+    public static TaskSnapshot of(Task task) {
+        return TaskSnapshot.builder()
+                .projectId(task.getProject().getId())
+                .title(task.getTitle())
+                .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                .parentTaskId(task.getParentTask() != null ? task.getParentTask().getId() : null)
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .estimatedHours(task.getEstimatedHours())
+                .createdAt(task.getCreatedAt())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .build();
+    }
+
+    public boolean isOpen() {
+        return status != TaskStatus.DONE && status != TaskStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,109 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Task due dates for calendar feeds. The version queries only aggregate over the filter indexes,
+ * so checking whether a feed changed is far cheaper than rendering it. Feeds are authorized by a
+ * per-user token, of which only the hash is stored on the user.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarFeedRepository {
+
+    private static final String SELECT_ENTRIES =
+            "SELECT t.id, t.title, t.status, t.priority, t.due_date, t.updated_at, p.name AS project_name "
+            + "FROM tasks t JOIN projects p ON p.id = t.project_id ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FeedVersion findProjectVersion(Long projectId, LocalDate from, LocalDate to) {
+        return findVersion("t.project_id", projectId, from, to);
+    }
+
+    public FeedVersion findAssigneeVersion(Long assigneeId, LocalDate from, LocalDate to) {
+        return findVersion("t.assignee_id", assigneeId, from, to);
+    }
+
+    public List<CalendarEntry> findProjectEntries(Long projectId, LocalDate from, LocalDate to) {
+        return findEntries("t.project_id", projectId, from, to);
+    }
+
+    public List<CalendarEntry> findAssigneeEntries(Long assigneeId, LocalDate from, LocalDate to) {
+        return findEntries("t.assignee_id", assigneeId, from, to);
+    }
+
+    // Deleted, archived or reassigned tasks lower the count even when max(updated_at) stays the same.
+    // The feed shows project names, so a renamed project has to move the version as well.
+    private FeedVersion findVersion(String column, Long id, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) AS task_count, greatest(max(t.updated_at), max(p.updated_at)) AS last_updated "
+                + "FROM tasks t JOIN projects p ON p.id = t.project_id "
+                + "WHERE " + column + " = :id AND t.due_date BETWEEN :from AND :to",
+                params(id, from, to),
+                (rs, rowNum) -> {
+                    Timestamp lastUpdated = rs.getTimestamp("last_updated");
+                    return new FeedVersion(rs.getLong("task_count"), lastUpdated != null ? lastUpdated.getTime() : 0);
+                });
+    }
+
+    private List<CalendarEntry> findEntries(String column, Long id, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                SELECT_ENTRIES + "WHERE " + column + " = :id AND t.due_date BETWEEN :from AND :to ORDER BY t.due_date, t.id",
+                params(id, from, to),
+                (rs, rowNum) -> new CalendarEntry(
+                        rs.getLong("id"),
+                        rs.getString("title"),
+                        rs.getString("status"),
+                        rs.getString("priority"),
+                        rs.getObject("due_date", LocalDate.class),
+                        rs.getObject("updated_at", LocalDateTime.class),
+                        rs.getString("project_name")));
+    }
+
+    public void updateTokenHash(Long userId, String tokenHash) {
+        jdbcTemplate.update("UPDATE users SET calendar_token_hash = :tokenHash WHERE id = :userId",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("tokenHash", tokenHash));
+    }
+
+    public Optional<AuthenticatedUser> findUserByTokenHash(String tokenHash) {
+        return jdbcTemplate.query(
+                "SELECT id, keycloak_id, username, role, active FROM users WHERE calendar_token_hash = :tokenHash",
+                new MapSqlParameterSource("tokenHash", tokenHash),
+                (rs, rowNum) -> AuthenticatedUser.builder()
+                        .id(rs.getLong("id"))
+                        .keycloakId(rs.getString("keycloak_id"))
+                        .username(rs.getString("username"))
+                        .role(UserRole.valueOf(rs.getString("role")))
+                        .active(rs.getBoolean("active"))
+                        .build())
+                .stream()
+                .findFirst();
+    }
+
+    private static MapSqlParameterSource params(Long id, LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("from", from)
+                .addValue("to", to);
+    }
+
+    public record FeedVersion(long taskCount, long lastUpdatedMillis) {
+    }
+
+    public record CalendarEntry(long id, String title, String status, String priority, LocalDate dueDate,
+                                LocalDateTime updatedAt, String projectName) {
+    }
+}
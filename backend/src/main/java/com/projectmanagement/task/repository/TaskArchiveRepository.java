@@ -0,0 +1,138 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.dto.TaskDTO;
+import com.projectmanagement.task.event.TaskSnapshot;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+
+    private static final String COLUMNS = "id, title, description, status, priority, due_date, estimated_hours, "
+            + "actual_hours, external_id, project_id, assignee_id, parent_task_id, created_at, created_by, "
+            + "updated_at, updated_by, started_at, completed_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves one batch of finished tasks into tasks_archive. Tasks that still have live subtasks stay
+     * put, and rows locked by concurrent updates are skipped until the next run.
+     */
+    public List<ArchivedTask> archiveBatch(LocalDateTime finishedBefore, int batchSize) {
+        return jdbcTemplate.query(
+                "WITH moved AS ("
+                + "  DELETE FROM tasks WHERE id IN ("
+                + "    SELECT t.id FROM tasks t"
+                + "    WHERE t.status IN ('DONE', 'CANCELLED')"
+                + "      AND COALESCE(t.completed_at, t.updated_at) < :finishedBefore"
+                + "      AND NOT EXISTS (SELECT 1 FROM tasks c WHERE c.parent_task_id = t.id)"
+                + "    ORDER BY t.id LIMIT :batchSize FOR UPDATE SKIP LOCKED)"
+                + "  RETURNING " + COLUMNS + "), "
+                + "archived AS (INSERT INTO tasks_archive (" + COLUMNS + ", archived_at) "
+                + "  SELECT " + COLUMNS + ", now() FROM moved) "
+                + "SELECT " + COLUMNS + " FROM moved",
+                new MapSqlParameterSource()
+                        .addValue("finishedBefore", finishedBefore)
+                        .addValue("batchSize", batchSize),
+                (rs, rowNum) -> new ArchivedTask(rs.getLong("id"), mapSnapshot(rs)));
+    }
+
+    /**
+     * Moves an archived task back into tasks. References to a parent or assignee that no longer
+     * exist in the live tables are cleared.
+     */
+    public boolean restore(Long id) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM tasks_archive WHERE id = :id RETURNING " + COLUMNS + ") "
+                + "INSERT INTO tasks (" + COLUMNS + ") "
+                + "SELECT m.id, m.title, m.description, m.status, m.priority, m.due_date, m.estimated_hours, "
+                + "m.actual_hours, m.external_id, m.project_id, u.id, p.id, m.created_at, m.created_by, "
+                + "now(), m.updated_by, m.started_at, m.completed_at FROM moved m "
+                + "LEFT JOIN users u ON u.id = m.assignee_id "
+                + "LEFT JOIN tasks p ON p.id = m.parent_task_id",
+                new MapSqlParameterSource("id", id)) > 0;
+    }
+
+    public Optional<TaskDTO> findById(Long id) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id),
+                this::mapRow).stream().findFirst();
+    }
+
+    public List<TaskDTO> findByIds(Collection<Long> ids) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks_archive WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                this::mapRow);
+    }
+
+    public List<TaskDTO> findByProjectId(Long projectId) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks_archive WHERE project_id = :projectId ORDER BY completed_at DESC, id",
+                new MapSqlParameterSource("projectId", projectId),
+                this::mapRow);
+    }
+
+    /**
+     * Rows deleted from tasks that autovacuum has not cleaned up yet. Their heap and index space
+     * becomes reusable once it has; the relation sizes themselves do not shrink.
+     */
+    public long tasksDeadRows() {
+        return jdbcTemplate.queryForList(
+                "SELECT n_dead_tup FROM pg_stat_user_tables WHERE relname = 'tasks'",
+                new MapSqlParameterSource(),
+                Long.class).stream().findFirst().orElse(0L);
+    }
+    
+    private TaskSnapshot mapSnapshot(ResultSet rs) throws SQLException {
+        return TaskSnapshot.builder()
+                .projectId(rs.getLong("project_id"))
+                .title(rs.getString("title"))
+                .assigneeId(rs.getObject("assignee_id", Long.class))
+                .parentTaskId(rs.getObject("parent_task_id", Long.class))
+                .status(TaskStatus.valueOf(rs.getString("status")))
+                .priority(TaskPriority.valueOf(rs.getString("priority")))
+                .dueDate(rs.getObject("due_date", LocalDate.class))
+                .estimatedHours(rs.getObject("estimated_hours", Integer.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .startedAt(rs.getObject("started_at", LocalDateTime.class))
+                .completedAt(rs.getObject("completed_at", LocalDateTime.class))
+                .build();
+    }
+    
+    private TaskDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return TaskDTO.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .status(TaskStatus.valueOf(rs.getString("status")))
+                .priority(TaskPriority.valueOf(rs.getString("priority")))
+                .dueDate(rs.getObject("due_date", LocalDate.class))
+                .estimatedHours(rs.getObject("estimated_hours", Integer.class))
+                .actualHours(rs.getObject("actual_hours", Integer.class))
+                .externalId(rs.getString("external_id"))
+                .projectId(rs.getLong("project_id"))
+                .assigneeId(rs.getObject("assignee_id", Long.class))
+                .parentTaskId(rs.getObject("parent_task_id", Long.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .archived(true)
+                .build();
+    }
+
+    public record ArchivedTask(Long id, TaskSnapshot snapshot) {
+    }
+}
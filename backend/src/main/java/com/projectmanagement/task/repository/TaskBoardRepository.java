@@ -0,0 +1,43 @@
+package com.projectmanagement.task.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskBoardRepository {
+
+    private static final String SELECT_CARDS =
+            "SELECT id, project_id, title, status, priority, assignee_id, due_date, estimated_hours FROM tasks";
+
+    private static final RowMapper<BoardRow> ROW_MAPPER = (rs, rowNum) -> new BoardRow(
+            rs.getLong("id"),
+            rs.getLong("project_id"),
+            rs.getString("title"),
+            rs.getString("status"),
+            rs.getString("priority"),
+            rs.getObject("assignee_id", Long.class),
+            rs.getObject("due_date", LocalDate.class),
+            rs.getObject("estimated_hours", Integer.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void forEachCard(Consumer<BoardRow> consumer) {
+        jdbcTemplate.query(SELECT_CARDS, new MapSqlParameterSource(), rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    public List<BoardRow> findByProjectId(Long projectId) {
+        return jdbcTemplate.query(SELECT_CARDS + " WHERE project_id = :projectId",
+                new MapSqlParameterSource("projectId", projectId), ROW_MAPPER);
+    }
+
+    public record BoardRow(long id, long projectId, String title, String status, String priority, Long assigneeId,
+                           LocalDate dueDate, Integer estimatedHours) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskSnapshot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskDeletionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Deletes the given tasks together with all of their subtasks in one statement. The
+     * parent_task_id foreign key is checked at the end of the statement, so deleting parents and
+     * children together does not violate it.
+     */
+    public List<DeletedTask> deleteSubtrees(Collection<Long> rootIds) {
+        return jdbcTemplate.query(
+                "WITH RECURSIVE subtree AS ("
+                + "  SELECT id FROM tasks WHERE id IN (:rootIds)"
+                + "  UNION"
+                + "  SELECT t.id FROM tasks t JOIN subtree s ON t.parent_task_id = s.id"
+                + ") "
+                + "DELETE FROM tasks WHERE id IN (SELECT id FROM subtree) "
+                + "RETURNING id, project_id, title, assignee_id, parent_task_id, status, priority, due_date, "
+                + "estimated_hours, created_at, started_at, completed_at",
+                new MapSqlParameterSource("rootIds", rootIds),
+                (rs, rowNum) -> new DeletedTask(
+                        rs.getLong("id"),
+                        TaskSnapshot.builder()
+                                .projectId(rs.getLong("project_id"))
+                                .title(rs.getString("title"))
+                                .assigneeId(rs.getObject("assignee_id", Long.class))
+                                .parentTaskId(rs.getObject("parent_task_id", Long.class))
+                                .status(TaskStatus.valueOf(rs.getString("status")))
+                                .priority(TaskPriority.valueOf(rs.getString("priority")))
+                                .dueDate(rs.getObject("due_date", LocalDate.class))
+                                .estimatedHours(rs.getObject("estimated_hours", Integer.class))
+                                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                                .startedAt(rs.getObject("started_at", LocalDateTime.class))
+                                .completedAt(rs.getObject("completed_at", LocalDateTime.class))
+                                .build()));
+    }
+
+    public record DeletedTask(Long id, TaskSnapshot snapshot) {
+    }
+}
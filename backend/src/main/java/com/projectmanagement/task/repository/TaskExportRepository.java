@@ -0,0 +1,96 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.task.dto.TaskExportFilter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads tasks for export through a server-side cursor: with a fetch size set and autocommit off,
+ * the PostgreSQL driver pulls rows in batches instead of materializing the whole result, so the
+ * caller must stream inside a transaction.
+ */
+@Repository
+public class TaskExportRepository {
+
+    private static final String COLUMNS = "id, project_id, title, status, priority, assignee_id, parent_task_id, "
+            + "due_date, estimated_hours, actual_hours, created_at, started_at, completed_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskExportRepository(DataSource dataSource, @Value("${task-export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    public void stream(TaskExportFilter filter, Consumer<TaskExportRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder where = new StringBuilder(" WHERE true");
+        if (filter.getProjectId() != null) {
+            where.append(" AND project_id = :projectId");
+            params.addValue("projectId", filter.getProjectId());
+        }
+        if (filter.getProjectIds() != null) {
+            where.append(" AND project_id IN (:projectIds)");
+            params.addValue("projectIds", filter.getProjectIds());
+        }
+        if (filter.getStatus() != null) {
+            where.append(" AND status = :status");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (filter.getStartDate() != null) {
+            where.append(" AND due_date >= :startDate");
+            params.addValue("startDate", filter.getStartDate());
+        }
+        if (filter.getEndDate() != null) {
+            where.append(" AND due_date <= :endDate");
+            params.addValue("endDate", filter.getEndDate());
+        }
+        if (filter.getAfterId() != null) {
+            where.append(" AND id > :afterId");
+            params.addValue("afterId", filter.getAfterId());
+        }
+        
+        // Each branch is filtered separately so both can walk their primary key index in id order
+        String sql = "SELECT " + COLUMNS + ", false AS archived FROM tasks" + where;
+        if (filter.isIncludeArchived()) {
+            sql += " UNION ALL SELECT " + COLUMNS + ", true AS archived FROM tasks_archive" + where;
+        }
+        sql += " ORDER BY id";
+        if (filter.getLimit() != null) {
+            sql += " LIMIT :limit";
+            params.addValue("limit", filter.getLimit());
+        }
+        
+        jdbcTemplate.query(sql, params, rs -> {
+            consumer.accept(new TaskExportRow(
+                    rs.getLong("id"),
+                    rs.getLong("project_id"),
+                    rs.getString("title"),
+                    rs.getString("status"),
+                    rs.getString("priority"),
+                    rs.getObject("assignee_id", Long.class),
+                    rs.getObject("parent_task_id", Long.class),
+                    rs.getObject("due_date", LocalDate.class),
+                    rs.getObject("estimated_hours", Integer.class),
+                    rs.getObject("actual_hours", Integer.class),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("started_at", LocalDateTime.class),
+                    rs.getObject("completed_at", LocalDateTime.class),
+                    rs.getBoolean("archived")));
+        });
+    }
+
+    public record TaskExportRow(long id, long projectId, String title, String status, String priority,
+                                Long assigneeId, Long parentTaskId, LocalDate dueDate, Integer estimatedHours,
+                                Integer actualHours, LocalDateTime createdAt, LocalDateTime startedAt,
+                                LocalDateTime completedAt, boolean archived) {
+    }
+}
@@ -5,14 +5,23 @@ import com.projectmanagement.task.domain.Task;
 import com.projectmanagement.task.domain.TaskStatus;
 import com.projectmanagement.user.domain.User;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    String CLOSED_STATUSES = "com.projectmanagement.task.domain.TaskStatus.DONE, "
+            + "com.projectmanagement.task.domain.TaskStatus.CANCELLED";
+    
     List<Task> findByProject(Project project);
     
     List<Task> findByAssignee(User assignee);
@@ -29,4 +38,33 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.dueDate BETWEEN :startDate AND :endDate")
     List<Task> findTasksByProjectIdAndDateRange(Long projectId, LocalDate startDate, LocalDate endDate);
+    
+    @Query("SELECT t.id, p.id, t.estimatedHours, t.dueDate FROM Task t LEFT JOIN t.parentTask p WHERE t.project.id = :projectId ORDER BY t.id")
+    List<Object[]> findScheduleRowsByProjectId(Long projectId);
+    
+    List<Task> findByProjectIdIn(Collection<Long> projectIds);
+    
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :id")
+    Optional<Long> findProjectIdById(Long id);
+    
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.parentTask WHERE t.id IN :ids")
+    List<Task> findAllWithAssigneeByIdIn(Collection<Long> ids);
+    
+    // Walks idx_tasks_assignee_next in order and stops after the page. The statuses stay literals so that
+    // the index predicate matches, and priorityRank renders as the indexed task_priority_rank(priority).
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId "
+            + "AND t.status NOT IN (" + CLOSED_STATUSES + ") "
+            + "ORDER BY t.priorityRank DESC, t.dueDate, t.id")
+    List<Task> findNextOpenByAssigneeId(Long assigneeId, Pageable page);
+    
+    // Same walk, restricted to the given projects so that the limit applies to visible tasks only
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId "
+            + "AND t.status NOT IN (" + CLOSED_STATUSES + ") "
+            + "AND t.project.id IN :projectIds "
+            + "ORDER BY t.priorityRank DESC, t.dueDate, t.id")
+    List<Task> findNextOpenByAssigneeIdAndProjectIdIn(Long assigneeId, Collection<Long> projectIds, Pageable page);
+    
+    @Override
+    @EntityGraph(attributePaths = "assignee")
+    List<Task> findAll(Specification<Task> spec, Sort sort);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.task.domain.Task;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskRepositoryCustom {
+    List<Map<String, Object>> findProjected(Set<String> fields, Specification<Task> spec, Sort sort);
+    
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<String> fields);
+}
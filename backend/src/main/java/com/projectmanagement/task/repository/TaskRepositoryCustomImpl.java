@@ -0,0 +1,57 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.common.query.FieldProjection;
+import com.projectmanagement.task.domain.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final FieldProjection<Task> PROJECTION = new FieldProjection<>(Task.class, taskFields());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjected(Set<String> fields, Specification<Task> spec, Sort sort) {
+        return PROJECTION.query(entityManager, fields, spec, sort);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<String> fields) {
+        Specification<Task> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+        return PROJECTION.query(entityManager, fields, byId, Sort.unsorted())
+                .stream()
+                .findFirst();
+    }
+    
+    private static Map<String, Function<Root<Task>, Path<?>>> taskFields() {
+        Map<String, Function<Root<Task>, Path<?>>> fields = new LinkedHashMap<>();
+        fields.put("id", root -> root.get("id"));
+        fields.put("title", root -> root.get("title"));
+        fields.put("description", root -> root.get("description"));
+        fields.put("status", root -> root.get("status"));
+        fields.put("priority", root -> root.get("priority"));
+        fields.put("dueDate", root -> root.get("dueDate"));
+        fields.put("estimatedHours", root -> root.get("estimatedHours"));
+        fields.put("actualHours", root -> root.get("actualHours"));
+        fields.put("externalId", root -> root.get("externalId"));
+        // Foreign key ids are read from the tasks row without joining the referenced table
+        fields.put("projectId", root -> root.get("project").get("id"));
+        fields.put("assigneeId", root -> root.get("assignee").get("id"));
+        fields.put("parentTaskId", root -> root.get("parentTask").get("id"));
+        fields.put("createdAt", root -> root.get("createdAt"));
+        fields.put("updatedAt", root -> root.get("updatedAt"));
+        return fields;
+    }
+}
@@ -0,0 +1,89 @@
+package com.projectmanagement.task.repository;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.dto.TaskTransitionDTO;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskStatusHistoryRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("task_status_history_(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertBatch(List<TaskTransitionDTO> transitions) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO task_status_history (task_id, project_id, from_status, to_status, "
+                + "from_assignee_id, to_assignee_id, changed_at, changed_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                transitions,
+                transitions.size(),
+                (ps, transition) -> {
+                    ps.setLong(1, transition.getTaskId());
+                    ps.setLong(2, transition.getProjectId());
+                    ps.setString(3, transition.getFromStatus() != null ? transition.getFromStatus().name() : null);
+                    ps.setString(4, transition.getToStatus() != null ? transition.getToStatus().name() : null);
+                    ps.setObject(5, transition.getFromAssigneeId(), Types.BIGINT);
+                    ps.setObject(6, transition.getToAssigneeId(), Types.BIGINT);
+                    ps.setTimestamp(7, Timestamp.valueOf(transition.getChangedAt()));
+                    ps.setString(8, transition.getChangedBy());
+                });
+    }
+
+    public List<TaskTransitionDTO> findByTaskId(Long taskId) {
+        return jdbcTemplate.query(
+                "SELECT task_id, project_id, from_status, to_status, from_assignee_id, to_assignee_id, changed_at, changed_by "
+                + "FROM task_status_history WHERE task_id = ? ORDER BY changed_at, id",
+                this::mapRow,
+                taskId);
+    }
+
+    public void createPartition(LocalDate monthStart) {
+        jdbcTemplate.queryForList("SELECT create_task_status_history_partition(?)", monthStart);
+    }
+
+    public List<LocalDate> findPartitionMonths() {
+        return jdbcTemplate.queryForList(
+                        "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = 'task_status_history'",
+                        String.class)
+                .stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(m -> LocalDate.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), 1))
+                .toList();
+    }
+
+    public void dropPartition(LocalDate monthStart) {
+        // Name is derived from a date, never from user input
+        jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS task_status_history_%04d_%02d",
+                monthStart.getYear(), monthStart.getMonthValue()));
+    }
+    
+    private TaskTransitionDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String fromStatus = rs.getString("from_status");
+        String toStatus = rs.getString("to_status");
+        return TaskTransitionDTO.builder()
+                .taskId(rs.getLong("task_id"))
+                .projectId(rs.getLong("project_id"))
+                .fromStatus(fromStatus != null ? TaskStatus.valueOf(fromStatus) : null)
+                .toStatus(toStatus != null ? TaskStatus.valueOf(toStatus) : null)
+                .fromAssigneeId(rs.getObject("from_assignee_id", Long.class))
+                .toAssigneeId(rs.getObject("to_assignee_id", Long.class))
+                .changedAt(rs.getTimestamp("changed_at").toLocalDateTime())
+                .changedBy(rs.getString("changed_by"))
+                .build();
+    }
+}
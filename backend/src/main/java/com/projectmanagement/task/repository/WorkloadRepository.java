@@ -0,0 +1,46 @@
+package com.projectmanagement.task.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WorkloadRepository {
+
+    private static final String SELECT_WORKLOAD =
+            "SELECT assignee_id, week_start, open_hours, open_tasks FROM task_workload_weekly "
+            + "WHERE week_start BETWEEN :fromWeek AND :toWeek";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<WorkloadRow> findByWeekRange(Collection<Long> assigneeIds, LocalDate fromWeek, LocalDate toWeek) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromWeek", fromWeek)
+                .addValue("toWeek", toWeek);
+        
+        String sql = SELECT_WORKLOAD;
+        if (assigneeIds != null && !assigneeIds.isEmpty()) {
+            sql += " AND assignee_id IN (:assigneeIds)";
+            params.addValue("assigneeIds", assigneeIds);
+        }
+        sql += " ORDER BY assignee_id, week_start";
+        
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new WorkloadRow(
+                rs.getLong("assignee_id"),
+                rs.getObject("week_start", LocalDate.class),
+                rs.getLong("open_hours"),
+                rs.getLong("open_tasks")));
+    }
+
+    public void refresh() {
+        jdbcTemplate.getJdbcTemplate().execute("REFRESH MATERIALIZED VIEW CONCURRENTLY task_workload_weekly");
+    }
+
+    public record WorkloadRow(Long assigneeId, LocalDate weekStart, long openHours, long openTasks) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.projectmanagement.task.service;
+
+public interface CalendarFeedService {
+    /**
+     * Issues a new feed token for the current user. The previous one stops working.
+     */
+    String createFeedToken();
+    
+    /**
+     * Cheap fingerprint of the project feed, usable as its ETag.
+     */
+    String getProjectFeedVersion(Long projectId, String token);
+    
+    byte[] getProjectFeed(Long projectId, String token, String version);
+    
+    String getAssigneeFeedVersion(Long assigneeId, String token);
+    
+    byte[] getAssigneeFeed(Long assigneeId, String token, String version);
+}
@@ -0,0 +1,170 @@
+package com.projectmanagement.task.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.common.datasource.PrimaryReads;
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.repository.CalendarFeedRepository;
+import com.projectmanagement.task.repository.CalendarFeedRepository.FeedVersion;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import com.projectmanagement.user.service.CurrentUserService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calendar clients poll their feed URL frequently. Each poll only runs the version query; the
+ * rendered feed is cached per project or assignee and rendered again only when the version moves.
+ * The clients cannot send a bearer token, so feeds are authorized by a random per-user token in
+ * the URL, looked up by its hash.
+ *
+ * <p>Versions and refills both read the primary. A refill served by a replica that lags behind
+ * the version would be cached under that newer version until the feed changes again.
+ */
+@Service
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final CalendarFeedRepository feedRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final CurrentUserService currentUserService;
+    private final PrimaryReads primaryReads;
+    private final Period past;
+    private final Period future;
+    private final Cache<String, RenderedFeed> feeds;
+    private final SecureRandom random = new SecureRandom();
+
+    public CalendarFeedServiceImpl(CalendarFeedRepository feedRepository,
+                                   ProjectVisibilityService visibilityService,
+                                   CurrentUserService currentUserService,
+                                   PrimaryReads primaryReads,
+                                   @Value("${calendar-feed.past:P30D}") Period past,
+                                   @Value("${calendar-feed.future:P365D}") Period future,
+                                   @Value("${calendar-feed.cache.maximum-size:1000}") long maximumSize,
+                                   @Value("${calendar-feed.cache.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.feedRepository = feedRepository;
+        this.visibilityService = visibilityService;
+        this.currentUserService = currentUserService;
+        this.primaryReads = primaryReads;
+        this.past = past;
+        this.future = future;
+        this.feeds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    @Override
+    public String createFeedToken() {
+        AuthenticatedUser user = currentUserService.getCurrentUser()
+                .orElseThrow(() -> new AccessDeniedException("No local user for the current principal"));
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        feedRepository.updateTokenHash(user.getId(), sha256(token));
+        return token;
+    }
+
+    @Override
+    public String getProjectFeedVersion(Long projectId, String token) {
+        checkCanViewProject(projectId, token);
+        LocalDate from = windowStart();
+        return version("p" + projectId, from, primaryReads.execute(() -> feedRepository.findProjectVersion(projectId, from, windowEnd(from))));
+    }
+
+    @Override
+    public byte[] getProjectFeed(Long projectId, String token, String version) {
+        checkCanViewProject(projectId, token);
+        return cached("project:" + projectId, version, () -> {
+            LocalDate from = windowStart();
+            return ICalendarWriter.render("Project " + projectId + " tasks",
+                    feedRepository.findProjectEntries(projectId, from, windowEnd(from)));
+        });
+    }
+
+    @Override
+    public String getAssigneeFeedVersion(Long assigneeId, String token) {
+        checkCanViewAssignee(assigneeId, token);
+        LocalDate from = windowStart();
+        return version("u" + assigneeId, from, primaryReads.execute(() -> feedRepository.findAssigneeVersion(assigneeId, from, windowEnd(from))));
+    }
+
+    @Override
+    public byte[] getAssigneeFeed(Long assigneeId, String token, String version) {
+        checkCanViewAssignee(assigneeId, token);
+        return cached("assignee:" + assigneeId, version, () -> {
+            LocalDate from = windowStart();
+            return ICalendarWriter.render("My tasks",
+                    feedRepository.findAssigneeEntries(assigneeId, from, windowEnd(from)));
+        });
+    }
+
+    private void checkCanViewProject(Long projectId, String token) {
+        if (!visibilityService.canView(feedOwner(token), projectId)) {
+            throw new AccessDeniedException("Not a member of project " + projectId);
+        }
+    }
+
+    // The feed spans projects, so restricted users only get their own
+    private void checkCanViewAssignee(Long assigneeId, String token) {
+        AuthenticatedUser owner = feedOwner(token);
+        boolean unrestricted = owner.getRole() == UserRole.PMO || owner.getRole() == UserRole.PROJECT_MANAGER;
+        if (!unrestricted && !Objects.equals(owner.getId(), assigneeId)) {
+            throw new AccessDeniedException("Not allowed to view the calendar of user " + assigneeId);
+        }
+    }
+
+    private AuthenticatedUser feedOwner(String token) {
+        return feedRepository.findUserByTokenHash(sha256(token))
+                .filter(AuthenticatedUser::isActive)
+                .orElseThrow(() -> new AccessDeniedException("Invalid calendar feed token"));
+    }
+
+    private byte[] cached(String key, String version, Supplier<byte[]> renderer) {
+        RenderedFeed feed = feeds.getIfPresent(key);
+        if (feed != null && feed.version().equals(version)) {
+            return feed.content();
+        }
+        byte[] content = primaryReads.execute(renderer);
+        feeds.put(key, new RenderedFeed(version, content));
+        return content;
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minus(past);
+    }
+
+    private LocalDate windowEnd(LocalDate start) {
+        return start.plus(past).plus(future);
+    }
+
+    // The window start is part of the version because the feed content shifts with it every day
+    private static String version(String scope, LocalDate from, FeedVersion version) {
+        return scope + "-" + from.toEpochDay() + "-" + version.taskCount() + "-" + version.lastUpdatedMillis();
+    }
+
+    private static String sha256(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record RenderedFeed(String version, byte[] content) {
+    }
+}
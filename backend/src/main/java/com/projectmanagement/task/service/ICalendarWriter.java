@@ -0,0 +1,77 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.repository.CalendarFeedRepository.CalendarEntry;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Renders task due dates as an RFC 5545 calendar of all-day events.
+ */
+final class ICalendarWriter {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    private ICalendarWriter() {
+    }
+
+    static byte[] render(String calendarName, List<CalendarEntry> entries) {
+        ICalendarWriter writer = new ICalendarWriter();
+        writer.line("BEGIN:VCALENDAR");
+        writer.line("VERSION:2.0");
+        writer.line("PRODID:-//Project Management//Tasks//EN");
+        writer.line("CALSCALE:GREGORIAN");
+        writer.line("X-WR-CALNAME:" + escape(calendarName));
+        entries.forEach(writer::event);
+        writer.line("END:VCALENDAR");
+        return writer.out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void event(CalendarEntry entry) {
+        line("BEGIN:VEVENT");
+        line("UID:task-" + entry.id() + "@project-management");
+        line("DTSTAMP:" + entry.updatedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(TIMESTAMP));
+        line("DTSTART;VALUE=DATE:" + entry.dueDate().format(DATE));
+        line("DTEND;VALUE=DATE:" + entry.dueDate().plusDays(1).format(DATE));
+        line("SUMMARY:" + escape("[" + entry.projectName() + "] " + entry.title()));
+        line("DESCRIPTION:" + escape("Status: " + entry.status() + ", priority: " + entry.priority()));
+        line("STATUS:" + (TaskStatus.CANCELLED.name().equals(entry.status()) ? "CANCELLED" : "CONFIRMED"));
+        line("END:VEVENT");
+    }
+
+    // Lines longer than 75 octets are folded onto continuation lines starting with a space
+    private void line(String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int length = utf8Length(codePoint);
+            if (octets + length > MAX_LINE_OCTETS) {
+                out.append("\r\n ");
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        out.append("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
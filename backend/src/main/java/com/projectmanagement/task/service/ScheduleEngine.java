@@ -0,0 +1,89 @@
+package com.projectmanagement.task.service;
+
+import java.util.Arrays;
+
+/**
+ * Forward/backward pass over a project's task hierarchy. A parent task can only start once all
+ * of its subtasks are finished, so every subtask is a predecessor of its parent. The graph is
+ * held in primitive arrays indexed by position in the sorted id array.
+ */
+public final class ScheduleEngine {
+
+    public static final long NO_PARENT = 0L;
+
+    private ScheduleEngine() {
+    }
+
+    /**
+     * @param ids         task ids in ascending order
+     * @param parentIds   parent task id per task, or {@link #NO_PARENT}
+     * @param durations   duration per task in hours
+     */
+    public static Result compute(long[] ids, long[] parentIds, int[] durations) {
+        int n = ids.length;
+        int[] parent = new int[n];
+        int[] pendingChildren = new int[n];
+        
+        for (int i = 0; i < n; i++) {
+            int p = parentIds[i] == NO_PARENT ? -1 : Arrays.binarySearch(ids, parentIds[i]);
+            // Parents outside the project are treated as roots
+            parent[i] = p >= 0 ? p : -1;
+            if (parent[i] >= 0) {
+                pendingChildren[parent[i]]++;
+            }
+        }
+        
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (pendingChildren[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        
+        long[] earliestStart = new long[n];
+        long[] earliestFinish = new long[n];
+        long projectFinish = 0;
+        while (head < tail) {
+            int i = order[head++];
+            earliestFinish[i] = earliestStart[i] + Math.max(durations[i], 0);
+            projectFinish = Math.max(projectFinish, earliestFinish[i]);
+            
+            int p = parent[i];
+            if (p >= 0) {
+                earliestStart[p] = Math.max(earliestStart[p], earliestFinish[i]);
+                if (--pendingChildren[p] == 0) {
+                    order[tail++] = p;
+                }
+            }
+        }
+        
+        if (tail < n) {
+            throw new IllegalArgumentException("Task hierarchy contains a cycle; " + (n - tail) + " tasks cannot be scheduled");
+        }
+        
+        long[] latestStart = new long[n];
+        long[] latestFinish = new long[n];
+        for (int k = n - 1; k >= 0; k--) {
+            int i = order[k];
+            int p = parent[i];
+            latestFinish[i] = p >= 0 ? latestStart[p] : projectFinish;
+            latestStart[i] = latestFinish[i] - Math.max(durations[i], 0);
+        }
+        
+        return new Result(ids, earliestStart, earliestFinish, latestStart, latestFinish, projectFinish);
+    }
+
+    public record Result(long[] ids, long[] earliestStart, long[] earliestFinish,
+                         long[] latestStart, long[] latestFinish, long projectFinish) {
+
+        public int size() {
+            return ids.length;
+        }
+
+        public long slack(int i) {
+            return latestStart[i] - earliestStart[i];
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.ProjectScheduleDTO;
+
+public interface ScheduleService {
+    ProjectScheduleDTO getProjectSchedule(Long projectId);
+}
@@ -0,0 +1,217 @@
+package com.projectmanagement.task.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.common.cluster.ClusterInvalidationHandler;
+import com.projectmanagement.common.cluster.ClusterInvalidationPublisher;
+import com.projectmanagement.common.datasource.PrimaryReads;
+import com.projectmanagement.project.domain.Project;
+import com.projectmanagement.project.event.ProjectDeletedEvent;
+import com.projectmanagement.project.repository.ProjectRepository;
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.dto.ProjectScheduleDTO;
+import com.projectmanagement.task.dto.ScheduledTaskDTO;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.repository.TaskRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Schedules are cached per project and dropped when a task of the project changes, on this
+ * instance right after commit and on every other instance through a NOTIFY sent with the
+ * change. The TTL bounds staleness for writes that bypass both, such as manual SQL. Refills
+ * read the primary, since a replica may still lag behind the change that invalidated the entry.
+ */
+@Service
+public class ScheduleServiceImpl implements ScheduleService, ClusterInvalidationHandler {
+
+    private static final String CHANNEL = "project_schedule";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final ClusterInvalidationPublisher invalidationPublisher;
+    private final PrimaryReads primaryReads;
+    private final int hoursPerDay;
+    private final Cache<Long, CachedSchedule> cache;
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ScheduleServiceImpl(TaskRepository taskRepository,
+                               ProjectRepository projectRepository,
+                               ProjectVisibilityService visibilityService,
+                               ClusterInvalidationPublisher invalidationPublisher,
+                               PrimaryReads primaryReads,
+                               @Value("${schedule.hours-per-day:8}") int hoursPerDay,
+                               @Value("${schedule.cache.maximum-size:1000}") long maximumSize,
+                               @Value("${schedule.cache.ttl:PT10M}") Duration ttl) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.visibilityService = visibilityService;
+        this.invalidationPublisher = invalidationPublisher;
+        this.primaryReads = primaryReads;
+        this.hoursPerDay = hoursPerDay;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Not transactional: the hit check may read a replica, the refill reads the primary
+    @Override
+    public ProjectScheduleDTO getProjectSchedule(Long projectId) {
+        visibilityService.checkCanView(projectId);
+        Project project = findProject(projectId);
+        
+        CachedSchedule cached = cache.getIfPresent(projectId);
+        if (cached != null && cached.projectStart().equals(project.getStartDate())) {
+            return cached.schedule();
+        }
+        
+        long generation = generation(projectId).get();
+        ProjectScheduleDTO schedule = primaryReads.execute(
+                () -> computeSchedule(projectId, findProject(projectId).getStartDate()));
+        // Only cache if no task of the project changed while computing
+        if (generation(projectId).get() == generation) {
+            cache.put(projectId, new CachedSchedule(schedule.getProjectStart(), schedule));
+        }
+        return schedule;
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    }
+
+    // Postgres collapses identical notifications within a transaction, so bulk changes send one per project
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void notifyTaskChanged(TaskChangedEvent event) {
+        if (event.getPrevious() != null) {
+            invalidationPublisher.publish(CHANNEL, event.getPrevious().getProjectId());
+        }
+        if (event.getCurrent() != null) {
+            invalidationPublisher.publish(CHANNEL, event.getCurrent().getProjectId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getPrevious() != null) {
+            invalidate(event.getPrevious().getProjectId());
+        }
+        if (event.getCurrent() != null) {
+            invalidate(event.getCurrent().getProjectId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void notifyProjectDeleted(ProjectDeletedEvent event) {
+        invalidationPublisher.publish(CHANNEL, event.getProjectId());
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        invalidate(event.getProjectId());
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        invalidate(Long.valueOf(payload));
+    }
+
+    @Override
+    public void onResync() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+    
+    private void invalidate(Long projectId) {
+        generation(projectId).incrementAndGet();
+        cache.invalidate(projectId);
+    }
+    
+    private AtomicLong generation(Long projectId) {
+        return generations.computeIfAbsent(projectId, id -> new AtomicLong());
+    }
+    
+    private ProjectScheduleDTO computeSchedule(Long projectId, LocalDate projectStart) {
+        List<Object[]> rows = taskRepository.findScheduleRowsByProjectId(projectId);
+        int n = rows.size();
+        long[] ids = new long[n];
+        long[] parentIds = new long[n];
+        int[] durations = new int[n];
+        LocalDate[] dueDates = new LocalDate[n];
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            parentIds[i] = row[1] != null ? (Long) row[1] : ScheduleEngine.NO_PARENT;
+            durations[i] = row[2] != null ? (Integer) row[2] : 0;
+            dueDates[i] = (LocalDate) row[3];
+        }
+        
+        ScheduleEngine.Result result = ScheduleEngine.compute(ids, parentIds, durations);
+        
+        List<ScheduledTaskDTO> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            LocalDate finishDate = addWorkingDays(projectStart, result.earliestFinish()[i] / hoursPerDay);
+            tasks.add(ScheduledTaskDTO.builder()
+                    .taskId(ids[i])
+                    .earliestStartHour(result.earliestStart()[i])
+                    .earliestFinishHour(result.earliestFinish()[i])
+                    .latestStartHour(result.latestStart()[i])
+                    .latestFinishHour(result.latestFinish()[i])
+                    .slackHours(result.slack(i))
+                    .critical(result.slack(i) == 0)
+                    .earliestFinishDate(finishDate)
+                    .dueDate(dueDates[i])
+                    .late(dueDates[i] != null && finishDate.isAfter(dueDates[i]))
+                    .build());
+        }
+        
+        List<Long> criticalPath = tasks.stream()
+                .filter(ScheduledTaskDTO::isCritical)
+                .sorted(Comparator.comparingLong(ScheduledTaskDTO::getEarliestStartHour)
+                        .thenComparingLong(ScheduledTaskDTO::getEarliestFinishHour))
+                .map(ScheduledTaskDTO::getTaskId)
+                .toList();
+        
+        return ProjectScheduleDTO.builder()
+                .projectId(projectId)
+                .projectStart(projectStart)
+                .projectFinish(addWorkingDays(projectStart, result.projectFinish() / hoursPerDay))
+                .totalDurationHours(result.projectFinish())
+                .hoursPerDay(hoursPerDay)
+                .criticalPath(criticalPath)
+                .tasks(tasks)
+                .build();
+    }
+    
+    private static LocalDate addWorkingDays(LocalDate start, long days) {
+        LocalDate date = start;
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        int dayOfWeek = date.getDayOfWeek().getValue() - 1;
+        long total = dayOfWeek + days;
+        return date.minusDays(dayOfWeek).plusWeeks(total / 5).plusDays(total % 5);
+    }
+    
+    private record CachedSchedule(LocalDate projectStart, ProjectScheduleDTO schedule) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.event.TaskEventCodec;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the task board read model. Every instance assigns itself all partitions of the task events
+ * topic without a consumer group, so nothing is left behind on the brokers when an instance goes
+ * away. The end offsets are resolved before the database load, so no change falls between the
+ * loaded state and the first consumed event. After every poll the index is told whether the
+ * consumer has caught up with the end of the topic, which is what its staleness is derived from.
+ */
+@Component
+@ConditionalOnProperty(name = "task-board.enabled", havingValue = "true")
+@Slf4j
+public class TaskBoardEventConsumer implements SmartLifecycle {
+
+    private final TaskBoardIndex boardIndex;
+    private final TaskEventCodec codec;
+    private final KafkaProperties kafkaProperties;
+    private final String topic;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private volatile KafkaConsumer<String, byte[]> consumer;
+    private Thread thread;
+
+    public TaskBoardEventConsumer(TaskBoardIndex boardIndex,
+                                  TaskEventCodec codec,
+                                  KafkaProperties kafkaProperties,
+                                  @Value("${kafka.topics.task-events:task-updated}") String topic,
+                                  @Value("${task-board.poll-timeout:PT1S}") Duration pollTimeout,
+                                  @Value("${task-board.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.boardIndex = boardIndex;
+        this.codec = codec;
+        this.kafkaProperties = kafkaProperties;
+        this.topic = topic;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::consume, "task-board-consumer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        KafkaConsumer<String, byte[]> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        while (running) {
+            try (KafkaConsumer<String, byte[]> kafkaConsumer = createConsumer()) {
+                consumer = kafkaConsumer;
+                List<TopicPartition> partitions = kafkaConsumer.partitionsFor(topic).stream()
+                        .map(info -> new TopicPartition(info.topic(), info.partition()))
+                        .toList();
+                if (partitions.isEmpty()) {
+                    throw new IllegalStateException("Topic " + topic + " has no partitions");
+                }
+                kafkaConsumer.assign(partitions);
+                kafkaConsumer.seekToEnd(partitions);
+                // seekToEnd is lazy; resolve the offsets now so the load below cannot miss an event
+                partitions.forEach(kafkaConsumer::position);
+                boardIndex.rebuild();
+                log.info("Consuming task events for the board from {} partitions of {}", partitions.size(), topic);
+
+                while (running) {
+                    ConsumerRecords<String, byte[]> records = kafkaConsumer.poll(pollTimeout);
+                    for (ConsumerRecord<String, byte[]> record : records) {
+                        apply(record.value());
+                    }
+                    boardIndex.onPolled(isCaughtUp(kafkaConsumer, partitions));
+                }
+            } catch (WakeupException e) {
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Task board consumer failed, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private void apply(byte[] payload) {
+        try {
+            boardIndex.apply(codec.decode(payload));
+        } catch (RuntimeException e) {
+            log.error("Skipping undecodable task event: {}", e.getMessage());
+        }
+    }
+
+    // An unknown lag counts as behind; it is known once a fetch response has arrived for the partition
+    private static boolean isCaughtUp(KafkaConsumer<String, byte[]> kafkaConsumer, List<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            OptionalLong lag = kafkaConsumer.currentLag(partition);
+            if (lag.isEmpty() || lag.getAsLong() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private KafkaConsumer<String, byte[]> createConsumer() {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties();
+        properties.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        return new KafkaConsumer<>(properties, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+}
@@ -0,0 +1,263 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.project.event.ProjectDeletedEvent;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskEventMessage;
+import com.projectmanagement.task.repository.TaskBoardRepository;
+import com.projectmanagement.task.repository.TaskBoardRepository.BoardRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory read model of the task board: per project, the cards of every task grouped by status.
+ * Loaded from the database and kept current from the task events on Kafka, so board reads never
+ * touch the database. The lag is the time since the consumer last polled with nothing left to read,
+ * so it also grows when the consumer falls behind or stops polling altogether.
+ *
+ * <p>Events are applied in the order they are read. The topic is keyed by task id, so the changes
+ * of one task arrive in commit order no matter whose clock stamped them. Writers serialize on one
+ * lock; readers only see immutable, pre-sorted column arrays that are rebuilt lazily after a change.
+ */
+@Component
+@ConditionalOnProperty(name = "task-board.enabled", havingValue = "true")
+@Slf4j
+public class TaskBoardIndex {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final Card[][] EMPTY_COLUMNS = emptyColumns();
+
+    // Highest priority first, then earliest due date
+    private static final Comparator<Card> CARD_ORDER = Comparator
+            .comparingInt((Card card) -> -card.priority())
+            .thenComparingInt(Card::dueDay)
+            .thenComparingLong(Card::id);
+
+    private final TaskBoardRepository boardRepository;
+    private final long maxLagMillis;
+    private final Object lock = new Object();
+
+    // When the consumer last polled with no records left behind on any partition
+    private volatile long caughtUpAt;
+
+    private volatile State state = new State();
+    private volatile boolean ready;
+
+    // Events applied while a rebuild reads the database; replayed onto the rebuilt state in order, so an
+    // event already reflected by the rows read is followed by every later change of the same task
+    private List<TaskEventMessage> replayBuffer;
+
+    public TaskBoardIndex(TaskBoardRepository boardRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${task-board.max-lag:PT5S}") Duration maxLag) {
+        this.boardRepository = boardRepository;
+        this.maxLagMillis = maxLag.toMillis();
+        meterRegistry.gauge("task.board.lag", this, index -> index.lagMillis() / 1000.0);
+        meterRegistry.gauge("task.board.tasks", this, index -> index.state.projectByTask.size());
+    }
+
+    public boolean isStale() {
+        return !ready || lagMillis() > maxLagMillis;
+    }
+
+    /**
+     * Called by the consumer after every poll, with whether it has read up to the end of the topic.
+     */
+    public void onPolled(boolean caughtUp) {
+        if (caughtUp) {
+            caughtUpAt = System.currentTimeMillis();
+        }
+    }
+
+    private long lagMillis() {
+        return Math.max(0, System.currentTimeMillis() - caughtUpAt);
+    }
+
+    /**
+     * Returns the cards of the project indexed by status ordinal. The arrays must not be modified.
+     */
+    public Card[][] columns(long projectId) {
+        ProjectBoard board = state.boards.get(projectId);
+        if (board == null) {
+            return EMPTY_COLUMNS;
+        }
+        Card[][] columns = board.columns;
+        if (columns == null) {
+            synchronized (lock) {
+                columns = board.columns;
+                if (columns == null) {
+                    columns = sortedColumns(board.cards.values());
+                    board.columns = columns;
+                }
+            }
+        }
+        return columns;
+    }
+
+    public void apply(TaskEventMessage message) {
+        synchronized (lock) {
+            if (replayBuffer != null) {
+                replayBuffer.add(message);
+            }
+            apply(state, message);
+        }
+    }
+
+    /**
+     * Reloads every card from the database. Also catches up with changes that publish no task
+     * events, such as archiving and project deletion on other instances.
+     */
+    @Scheduled(fixedDelayString = "${task-board.resync-interval:PT1H}", initialDelayString = "${task-board.resync-interval:PT1H}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            replayBuffer = new ArrayList<>();
+        }
+        
+        State fresh = new State();
+        try {
+            boardRepository.forEachCard(row -> fresh.put(card(row), row.projectId()));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                replayBuffer = null;
+            }
+            throw e;
+        }
+        
+        synchronized (lock) {
+            replayBuffer.forEach(message -> apply(fresh, message));
+            replayBuffer = null;
+            state = fresh;
+            ready = true;
+        }
+        log.info("Loaded task board read model with {} tasks in {} ms",
+                fresh.projectByTask.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        synchronized (lock) {
+            ProjectBoard board = state.boards.remove(event.getProjectId());
+            if (board != null) {
+                board.cards.keySet().forEach(state.projectByTask::remove);
+            }
+        }
+    }
+
+    public static Card card(BoardRow row) {
+        return new Card(
+                row.id(),
+                row.title(),
+                row.assigneeId(),
+                (byte) TaskPriority.valueOf(row.priority()).ordinal(),
+                (byte) TaskStatus.valueOf(row.status()).ordinal(),
+                (int) row.dueDate().toEpochDay(),
+                row.estimatedHours() != null ? row.estimatedHours() : 0);
+    }
+
+    public static Card[][] sortedColumns(Collection<Card> cards) {
+        List<List<Card>> byStatus = new ArrayList<>(STATUSES.length);
+        for (int i = 0; i < STATUSES.length; i++) {
+            byStatus.add(new ArrayList<>());
+        }
+        cards.forEach(card -> byStatus.get(card.status()).add(card));
+        
+        Card[][] columns = new Card[STATUSES.length][];
+        for (int i = 0; i < STATUSES.length; i++) {
+            columns[i] = byStatus.get(i).toArray(new Card[0]);
+            Arrays.sort(columns[i], CARD_ORDER);
+        }
+        return columns;
+    }
+
+    private static void apply(State state, TaskEventMessage message) {
+        long taskId = message.getTaskId();
+        Card existing = state.get(taskId);
+        
+        if (message.getChangeType() == TaskEventMessage.ChangeType.DELETED) {
+            state.remove(taskId);
+            return;
+        }
+        
+        TaskStatus status = message.getStatus() != null ? message.getStatus()
+                : existing != null ? STATUSES[existing.status()] : null;
+        TaskPriority priority = message.getPriority() != null ? message.getPriority()
+                : existing != null ? PRIORITIES[existing.priority()] : null;
+        if (status == null || priority == null || message.getProjectId() == null) {
+            return;
+        }
+        
+        LocalDate dueDate = message.getDueDate();
+        Card card = new Card(
+                taskId,
+                message.getTitle() != null ? message.getTitle() : existing != null ? existing.title() : null,
+                message.getAssigneeId(),
+                (byte) priority.ordinal(),
+                (byte) status.ordinal(),
+                dueDate != null ? (int) dueDate.toEpochDay() : Integer.MAX_VALUE,
+                message.getEstimatedHours() != null ? message.getEstimatedHours() : 0);
+        state.remove(taskId);
+        state.put(card, message.getProjectId());
+    }
+
+    private static Card[][] emptyColumns() {
+        Card[][] columns = new Card[STATUSES.length][];
+        Arrays.fill(columns, new Card[0]);
+        return columns;
+    }
+
+    /**
+     * One task on the board. Priority and status are enum ordinals and the due date an epoch day.
+     */
+    public record Card(long id, String title, Long assigneeId, byte priority, byte status, int dueDay,
+                       int estimatedHours) {
+    }
+
+    private static final class ProjectBoard {
+        private final Map<Long, Card> cards = new HashMap<>();
+        private volatile Card[][] columns;
+    }
+
+    // Boards are read without the lock; everything else is only touched while holding it
+    private static final class State {
+        private final Map<Long, ProjectBoard> boards = new ConcurrentHashMap<>();
+        private final Map<Long, Long> projectByTask = new HashMap<>();
+
+        private Card get(long taskId) {
+            Long projectId = projectByTask.get(taskId);
+            return projectId != null ? boards.get(projectId).cards.get(taskId) : null;
+        }
+
+        private void put(Card card, long projectId) {
+            ProjectBoard board = boards.computeIfAbsent(projectId, id -> new ProjectBoard());
+            board.cards.put(card.id(), card);
+            board.columns = null;
+            projectByTask.put(card.id(), projectId);
+        }
+
+        private void remove(long taskId) {
+            Long projectId = projectByTask.remove(taskId);
+            if (projectId != null) {
+                ProjectBoard board = boards.get(projectId);
+                board.cards.remove(taskId);
+                board.columns = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.TaskBoardDTO;
+
+public interface TaskBoardService {
+    /**
+     * Served from the in-memory read model when it is enabled and current, otherwise from the database.
+     */
+    TaskBoardDTO getBoard(Long projectId);
+}
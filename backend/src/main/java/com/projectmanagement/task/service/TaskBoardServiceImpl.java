@@ -0,0 +1,80 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.dto.TaskBoardCardDTO;
+import com.projectmanagement.task.dto.TaskBoardDTO;
+import com.projectmanagement.task.repository.TaskBoardRepository;
+import com.projectmanagement.task.service.TaskBoardIndex.Card;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TaskBoardServiceImpl implements TaskBoardService {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final TaskBoardRepository boardRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final ObjectProvider<TaskBoardIndex> boardIndex;
+    private final Counter fallbackCounter;
+
+    public TaskBoardServiceImpl(TaskBoardRepository boardRepository,
+                                ProjectVisibilityService visibilityService,
+                                ObjectProvider<TaskBoardIndex> boardIndex,
+                                MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.visibilityService = visibilityService;
+        this.boardIndex = boardIndex;
+        this.fallbackCounter = meterRegistry.counter("task.board.fallback");
+    }
+
+    @Override
+    public TaskBoardDTO getBoard(Long projectId) {
+        visibilityService.checkCanView(projectId);
+        
+        TaskBoardIndex index = boardIndex.getIfAvailable();
+        if (index != null) {
+            if (!index.isStale()) {
+                return toDTO(projectId, TaskBoardDTO.Source.READ_MODEL, index.columns(projectId));
+            }
+            fallbackCounter.increment();
+        }
+        
+        List<Card> cards = new ArrayList<>();
+        boardRepository.findByProjectId(projectId).forEach(row -> cards.add(TaskBoardIndex.card(row)));
+        return toDTO(projectId, TaskBoardDTO.Source.DATABASE, TaskBoardIndex.sortedColumns(cards));
+    }
+
+    private TaskBoardDTO toDTO(Long projectId, TaskBoardDTO.Source source, Card[][] columns) {
+        Map<TaskStatus, List<TaskBoardCardDTO>> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            List<TaskBoardCardDTO> cards = new ArrayList<>(columns[status.ordinal()].length);
+            for (Card card : columns[status.ordinal()]) {
+                cards.add(TaskBoardCardDTO.builder()
+                        .id(card.id())
+                        .title(card.title())
+                        .assigneeId(card.assigneeId())
+                        .priority(PRIORITIES[card.priority()])
+                        .dueDate(card.dueDay() != Integer.MAX_VALUE ? LocalDate.ofEpochDay(card.dueDay()) : null)
+                        .estimatedHours(card.estimatedHours())
+                        .build());
+            }
+            byStatus.put(status, cards);
+        }
+        return TaskBoardDTO.builder()
+                .projectId(projectId)
+                .source(source)
+                .columns(byStatus)
+                .build();
+    }
+}
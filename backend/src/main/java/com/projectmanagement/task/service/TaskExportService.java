@@ -0,0 +1,14 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.TaskExportFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface TaskExportService {
+    /**
+     * Visibility is resolved for the calling user right away; the rows themselves are read and
+     * written only when the returned body is streamed. Fails with 503 while
+     * task-export.max-concurrent exports are already running; the returned body must be streamed
+     * to free its slot.
+     */
+    StreamingResponseBody export(TaskExportFilter filter, TaskExportFormat format, boolean gzip);
+}
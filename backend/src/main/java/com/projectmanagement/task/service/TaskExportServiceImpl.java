@@ -0,0 +1,209 @@
+package com.projectmanagement.task.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.dto.TaskExportFilter;
+import com.projectmanagement.task.repository.TaskExportRepository;
+import com.projectmanagement.task.repository.TaskExportRepository.TaskExportRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.Temporal;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@Slf4j
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final String CSV_HEADER = "id,projectId,title,status,priority,assigneeId,parentTaskId,dueDate,"
+            + "estimatedHours,actualHours,createdAt,startedAt,completedAt,archived\n";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final TaskExportRepository exportRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore exports;
+
+    public TaskExportServiceImpl(TaskExportRepository exportRepository,
+                                 ProjectVisibilityService visibilityService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${task-export.max-concurrent:4}") int maxConcurrent) {
+        this.exportRepository = exportRepository;
+        this.visibilityService = visibilityService;
+        this.exports = new Semaphore(maxConcurrent);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody export(TaskExportFilter filter, TaskExportFormat format, boolean gzip) {
+        if (filter.getLimit() != null && filter.getLimit() <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        
+        boolean empty = false;
+        if (filter.getProjectId() != null) {
+            visibilityService.checkCanView(filter.getProjectId());
+        } else if (visibilityService.isRestricted()) {
+            Set<Long> visible = visibilityService.visibleProjectIds();
+            filter.setProjectIds(visible);
+            empty = visible.isEmpty();
+        }
+        boolean noRows = empty;
+        
+        // Each export holds a connection for as long as the client reads, so only a few may run at once
+        if (!exports.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many exports in progress, try again later");
+        }
+        return out -> {
+            try {
+                OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+                Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+                long start = System.nanoTime();
+                long rows = format == TaskExportFormat.CSV
+                        ? writeCsv(filter, writer, noRows)
+                        : writeNdjson(filter, writer, noRows);
+                writer.flush();
+                if (target instanceof GZIPOutputStream gzipStream) {
+                    gzipStream.finish();
+                }
+                log.info("Exported {} tasks as {} in {} ms", rows, format, (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                exports.release();
+            }
+        };
+    }
+
+    private long writeCsv(TaskExportFilter filter, Writer writer, boolean noRows) throws IOException {
+        writer.write(CSV_HEADER);
+        if (noRows) {
+            return 0;
+        }
+        return stream(filter, row -> {
+            try {
+                writer.write(Long.toString(row.id()));
+                writer.write(',');
+                writer.write(Long.toString(row.projectId()));
+                writer.write(',');
+                writeCsvText(writer, row.title());
+                writer.write(',');
+                writer.write(row.status());
+                writer.write(',');
+                writer.write(row.priority());
+                writeCsvValue(writer, row.assigneeId());
+                writeCsvValue(writer, row.parentTaskId());
+                writeCsvValue(writer, row.dueDate());
+                writeCsvValue(writer, row.estimatedHours());
+                writeCsvValue(writer, row.actualHours());
+                writeCsvValue(writer, row.createdAt());
+                writeCsvValue(writer, row.startedAt());
+                writeCsvValue(writer, row.completedAt());
+                writer.write(',');
+                writer.write(Boolean.toString(row.archived()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeNdjson(TaskExportFilter filter, Writer writer, boolean noRows) throws IOException {
+        if (noRows) {
+            return 0;
+        }
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        long rows = stream(filter, row -> {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.id());
+                generator.writeNumberField("projectId", row.projectId());
+                generator.writeStringField("title", row.title());
+                generator.writeStringField("status", row.status());
+                generator.writeStringField("priority", row.priority());
+                writeJsonNumber(generator, "assigneeId", row.assigneeId());
+                writeJsonNumber(generator, "parentTaskId", row.parentTaskId());
+                writeJsonText(generator, "dueDate", row.dueDate());
+                writeJsonNumber(generator, "estimatedHours", row.estimatedHours());
+                writeJsonNumber(generator, "actualHours", row.actualHours());
+                writeJsonText(generator, "createdAt", row.createdAt());
+                writeJsonText(generator, "startedAt", row.startedAt());
+                writeJsonText(generator, "completedAt", row.completedAt());
+                generator.writeBooleanField("archived", row.archived());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        return rows;
+    }
+
+    // Runs the cursor inside a read-only transaction, which also gives the export a consistent snapshot
+    private long stream(TaskExportFilter filter, Consumer<TaskExportRow> consumer) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try {
+            transactionTemplate.executeWithoutResult(status -> exportRepository.stream(filter, row -> {
+                consumer.accept(row);
+                rows.incrementAndGet();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows.get();
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonNumber(JsonGenerator generator, String name, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value.longValue());
+        }
+    }
+
+    private static void writeJsonText(JsonGenerator generator, String name, Temporal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.repository.TaskStatusHistoryRepository;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates upcoming monthly partitions of task_status_history and drops the ones that fall
+ * outside the retention period.
+ */
+@Component
+@Slf4j
+public class TaskHistoryPartitionMaintainer {
+
+    private final TaskStatusHistoryRepository historyRepository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TaskHistoryPartitionMaintainer(TaskStatusHistoryRepository historyRepository,
+                                          @Value("${task-history.partitions-ahead:3}") int monthsAhead,
+                                          @Value("${task-history.retention-months:24}") int retentionMonths) {
+        this.historyRepository = historyRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${task-history.maintenance-cron:0 0 1 * * *}")
+    public void maintainPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            historyRepository.createPartition(currentMonth.plusMonths(i));
+        }
+        
+        LocalDate oldestRetained = currentMonth.minusMonths(retentionMonths);
+        for (LocalDate month : historyRepository.findPartitionMonths()) {
+            if (month.isBefore(oldestRetained)) {
+                historyRepository.dropPartition(month);
+                log.info("Dropped task status history partition for {}", month);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.TaskTransitionDTO;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import com.projectmanagement.task.repository.TaskStatusHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes status and assignee transitions to task_status_history inside the transaction that
+ * changed the task. Transitions are collected per transaction and inserted in JDBC batches just
+ * before it commits, so the audit trail commits or rolls back together with the change.
+ */
+@Component
+public class TaskHistoryRecorder {
+
+    private final TaskStatusHistoryRepository historyRepository;
+    private final int batchSize;
+
+    public TaskHistoryRecorder(TaskStatusHistoryRepository historyRepository,
+                               @Value("${task-history.batch-size:500}") int batchSize) {
+        this.historyRepository = historyRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isArchival()) {
+            return;
+        }
+        TaskSnapshot previous = event.getPrevious();
+        TaskSnapshot current = event.getCurrent();
+        if (previous != null && current != null
+                && previous.getStatus() == current.getStatus()
+                && Objects.equals(previous.getAssigneeId(), current.getAssigneeId())) {
+            return;
+        }
+        
+        TaskTransitionDTO transition = TaskTransitionDTO.builder()
+                .taskId(event.getTaskId())
+                .projectId(current != null ? current.getProjectId() : previous.getProjectId())
+                .fromStatus(previous != null ? previous.getStatus() : null)
+                .toStatus(current != null ? current.getStatus() : null)
+                .fromAssigneeId(previous != null ? previous.getAssigneeId() : null)
+                .toAssigneeId(current != null ? current.getAssigneeId() : null)
+                .changedAt(LocalDateTime.now())
+                .changedBy(currentPrincipal())
+                .build();
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            historyRepository.insertBatch(List.of(transition));
+            return;
+        }
+        pendingTransitions().add(transition);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<TaskTransitionDTO> pendingTransitions() {
+        List<TaskTransitionDTO> pending = (List<TaskTransitionDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        
+        List<TaskTransitionDTO> transitions = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, transitions);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // A failed insert fails the commit, so no transition is ever lost silently
+                for (int from = 0; from < transitions.size(); from += batchSize) {
+                    historyRepository.insertBatch(transitions.subList(from, Math.min(from + batchSize, transitions.size())));
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskHistoryRecorder.this);
+            }
+        });
+        return transitions;
+    }
+    
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -1,18 +1,32 @@
 package com.projectmanagement.task.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.task.domain.TaskStatus;
 import com.projectmanagement.task.dto.CreateTaskRequest;
 import com.projectmanagement.task.dto.TaskDTO;
+import com.projectmanagement.task.dto.TaskFilter;
+import com.projectmanagement.task.dto.TaskTransitionDTO;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
 
 public interface TaskService {
     TaskDTO createTask(CreateTaskRequest request);
     
     TaskDTO getTaskById(Long id);
     
+    BatchResult<TaskDTO> getTasksByIds(List<Long> ids);
+    
     List<TaskDTO> getAllTasks();
     
+    List<TaskDTO> findTasks(TaskFilter filter, Sort sort);
+    
+    List<Map<String, Object>> getTaskFields(Set<String> fields, TaskFilter filter, Sort sort);
+    
+    Map<String, Object> getTaskFieldsById(Long id, Set<String> fields);
+    
     List<TaskDTO> getTasksByProject(Long projectId);
     
     List<TaskDTO> getTasksByAssignee(Long assigneeId);
@@ -25,6 +39,17 @@ public interface TaskService {
     
     List<TaskDTO> getOverdueTasks();
     
+    /**
+     * Open tasks of the assignee, highest priority first and then by due date.
+     */
+    List<TaskDTO> getNextTasks(Long assigneeId, int limit);
+    
+    List<TaskTransitionDTO> getTaskHistory(Long id);
+    
+    List<TaskDTO> getArchivedTasksByProject(Long projectId);
+    
+    TaskDTO restoreTask(Long id);
+    
     TaskDTO updateTask(Long id, CreateTaskRequest request);
     
     TaskDTO updateTaskStatus(Long id, TaskStatus status);
@@ -33,5 +58,10 @@ public interface TaskService {
     
     void deleteTask(Long id);
     
+    /**
+     * Deletes the given tasks and all of their subtasks. Items lists every deleted id.
+     */
+    BatchResult<Long> deleteTasks(List<Long> ids);
+    
     List<TaskDTO> getTasksByProjectAndDateRange(Long projectId, LocalDate startDate, LocalDate endDate);
 } 
\ No newline at end of file
@@ -1,20 +1,39 @@
 package com.projectmanagement.task.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.project.domain.Project;
 import com.projectmanagement.project.repository.ProjectRepository;
+import com.projectmanagement.project.service.ProjectVisibilityService;
 import com.projectmanagement.task.domain.Task;
 import com.projectmanagement.task.domain.TaskStatus;
 import com.projectmanagement.task.dto.CreateTaskRequest;
 import com.projectmanagement.task.dto.TaskDTO;
+import com.projectmanagement.task.dto.TaskFilter;
+import com.projectmanagement.task.dto.TaskTransitionDTO;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import com.projectmanagement.task.repository.TaskArchiveRepository;
+import com.projectmanagement.task.repository.TaskDeletionRepository;
+import com.projectmanagement.task.repository.TaskDeletionRepository.DeletedTask;
 import com.projectmanagement.task.repository.TaskRepository;
+import com.projectmanagement.task.repository.TaskSpecifications;
+import com.projectmanagement.task.repository.TaskStatusHistoryRepository;
 import com.projectmanagement.user.domain.User;
 import com.projectmanagement.user.dto.UserDTO;
 import com.projectmanagement.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +41,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_NEXT_TASKS = 100;
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "title", "status", "priority", "dueDate", "estimatedHours", "createdAt", "updatedAt");
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TaskStatusHistoryRepository historyRepository;
+    private final TaskArchiveRepository archiveRepository;
+    private final TaskDeletionRepository deletionRepository;
+    private final ProjectVisibilityService visibilityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -35,7 +64,6 @@ public class TaskServiceImpl implements TaskService {
         Task.TaskBuilder taskBuilder = Task.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
-                .status(request.getStatus())
                 .priority(request.getPriority())
                 .dueDate(request.getDueDate())
                 .estimatedHours(request.getEstimatedHours())
@@ -53,29 +81,124 @@ public class TaskServiceImpl implements TaskService {
             taskBuilder.parentTask(parentTask);
         }
         
-        Task task = taskBuilder.build();
-        return mapToDTO(taskRepository.save(task));
+        Task newTask = taskBuilder.build();
+        newTask.changeStatus(request.getStatus());
+        Task task = taskRepository.save(newTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(task.getId(), TaskSnapshot.of(task)));
+        return mapToDTO(task);
     }
 
     @Override
     @Transactional(readOnly = true)
     public TaskDTO getTaskById(Long id) {
-        return taskRepository.findById(id)
+        TaskDTO task = taskRepository.findById(id)
                 .map(this::mapToDTO)
+                .or(() -> archiveRepository.findById(id).map(this::withAssignee))
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        visibilityService.checkCanView(task.getProjectId());
+        return task;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResult<TaskDTO> getTasksByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        Map<Long, TaskDTO> found = new HashMap<>();
+        taskRepository.findAllWithAssigneeByIdIn(distinctIds)
+                .forEach(task -> found.put(task.getId(), mapToDTO(task)));
+        
+        if (found.size() < distinctIds.size()) {
+            List<Long> notLive = distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+            archiveRepository.findByIds(notLive).forEach(task -> found.put(task.getId(), task));
+            attachAssignees(found.values().stream().filter(TaskDTO::isArchived).toList());
+        }
+        
+        found.values().removeIf(task -> !visibilityService.canView(task.getProjectId()));
+        return BatchResult.of(distinctIds, found);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
+        List<Task> tasks = visibilityService.isRestricted()
+                ? taskRepository.findByProjectIdIn(visibilityService.visibleProjectIds())
+                : taskRepository.findAll();
+        return tasks.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> findTasks(TaskFilter filter, Sort sort) {
+        List<Task> tasks = taskRepository.findAll(visibleMatching(filter), entitySort(sort).and(Sort.by("id")));
+        if (tasks.isEmpty()) {
+            checkFilterReferencesExist(filter);
+        }
+        return tasks.stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    private Specification<Task> visibleMatching(TaskFilter filter) {
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        if (filter.getProjectId() != null) {
+            visibilityService.checkCanView(filter.getProjectId());
+        } else if (visibilityService.isRestricted()) {
+            spec = spec.and(TaskSpecifications.inProjects(visibilityService.visibleProjectIds()));
+        }
+        return spec;
+    }
+
+    private static Sort entitySort(Sort sort) {
+        sort.forEach(order -> {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort tasks by " + order.getProperty());
+            }
+        });
+        // Enum names do not sort in priority order, the rank computed from them does
+        return Sort.by(sort.stream()
+                .map(o -> o.getProperty().equals("priority") ? o.withProperty("priorityRank") : o)
+                .toList());
+    }
+
+    // Only consulted for empty results, so filtering on an unknown project or user still answers 404
+    private void checkFilterReferencesExist(TaskFilter filter) {
+        if (filter.getProjectId() != null && !projectRepository.existsById(filter.getProjectId())) {
+            throw new EntityNotFoundException("Project not found with id: " + filter.getProjectId());
+        }
+        if (filter.getAssigneeId() != null && !userRepository.existsById(filter.getAssigneeId())) {
+            throw new EntityNotFoundException("User not found with id: " + filter.getAssigneeId());
+        }
+        if (filter.getParentTaskId() != null && !taskRepository.existsById(filter.getParentTaskId())) {
+            throw new EntityNotFoundException("Parent task not found with id: " + filter.getParentTaskId());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTaskFields(Set<String> fields, TaskFilter filter, Sort sort) {
+        List<Map<String, Object>> tasks = taskRepository.findProjected(fields, visibleMatching(filter), entitySort(sort));
+        if (tasks.isEmpty()) {
+            checkFilterReferencesExist(filter);
+        }
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTaskFieldsById(Long id, Set<String> fields) {
+        if (visibilityService.isRestricted()) {
+            taskRepository.findProjectIdById(id).ifPresent(visibilityService::checkCanView);
+        }
+        return taskRepository.findProjectedById(id, fields)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByProject(Long projectId) {
+        visibilityService.checkCanView(projectId);
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
         
@@ -91,6 +214,7 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + assigneeId));
         
         return taskRepository.findByAssignee(assignee).stream()
+                .filter(this::isVisible)
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -98,6 +222,7 @@ public class TaskServiceImpl implements TaskService {
     @Override
     @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status) {
+        visibilityService.checkCanView(projectId);
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
         
@@ -113,6 +238,7 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + assigneeId));
         
         return taskRepository.findByAssigneeAndStatus(assignee, status).stream()
+                .filter(this::isVisible)
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -124,6 +250,7 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("Parent task not found with id: " + parentTaskId));
         
         return taskRepository.findByParentTask(parentTask).stream()
+                .filter(this::isVisible)
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -132,22 +259,89 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public List<TaskDTO> getOverdueTasks() {
         return taskRepository.findByDueDateBefore(LocalDate.now()).stream()
+                .filter(this::isVisible)
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getNextTasks(Long assigneeId, int limit) {
+        if (limit < 1 || limit > MAX_NEXT_TASKS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEXT_TASKS);
+        }
+        
+        List<Task> tasks;
+        if (!visibilityService.isRestricted()) {
+            tasks = taskRepository.findNextOpenByAssigneeId(assigneeId, PageRequest.of(0, limit));
+        } else {
+            // Filtered in SQL, since filtering after the LIMIT would return fewer tasks than asked for
+            Set<Long> projectIds = visibilityService.visibleProjectIds();
+            tasks = projectIds.isEmpty()
+                    ? List.of()
+                    : taskRepository.findNextOpenByAssigneeIdAndProjectIdIn(assigneeId, projectIds, PageRequest.of(0, limit));
+        }
+        if (tasks.isEmpty() && !userRepository.existsById(assigneeId)) {
+            throw new EntityNotFoundException("User not found with id: " + assigneeId);
+        }
+        return tasks.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskTransitionDTO> getTaskHistory(Long id) {
+        List<TaskTransitionDTO> history = historyRepository.findByTaskId(id);
+        if (history.isEmpty() && !taskRepository.existsById(id) && archiveRepository.findById(id).isEmpty()) {
+            throw new EntityNotFoundException("Task not found with id: " + id);
+        }
+        if (!history.isEmpty()) {
+            visibilityService.checkCanView(history.get(0).getProjectId());
+        }
+        
+        return history;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getArchivedTasksByProject(Long projectId) {
+        visibilityService.checkCanView(projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        
+        return archiveRepository.findByProjectId(projectId).stream()
+                .map(this::withAssignee)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public TaskDTO restoreTask(Long id) {
+        if (!archiveRepository.restore(id)) {
+            throw new EntityNotFoundException("Archived task not found with id: " + id);
+        }
+        
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        eventPublisher.publishEvent(TaskChangedEvent.restored(task.getId(), TaskSnapshot.of(task)));
+        return mapToDTO(task);
+    }
+
     @Override
     @Transactional
     public TaskDTO updateTask(Long id, CreateTaskRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        TaskSnapshot previous = TaskSnapshot.of(task);
         
         Project project = projectRepository.findById(request.getProjectId())
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + request.getProjectId()));
         
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
-        task.setStatus(request.getStatus());
+        task.changeStatus(request.getStatus());
         task.setPriority(request.getPriority());
         task.setDueDate(request.getDueDate());
         task.setEstimatedHours(request.getEstimatedHours());
@@ -173,7 +367,7 @@ public class TaskServiceImpl implements TaskService {
             task.setParentTask(null);
         }
         
-        return mapToDTO(taskRepository.save(task));
+        return saveAndPublish(task, previous);
     }
 
     @Override
@@ -181,10 +375,11 @@ public class TaskServiceImpl implements TaskService {
     public TaskDTO updateTaskStatus(Long id, TaskStatus status) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        TaskSnapshot previous = TaskSnapshot.of(task);
         
-        task.setStatus(status);
+        task.changeStatus(status);
         
-        return mapToDTO(taskRepository.save(task));
+        return saveAndPublish(task, previous);
     }
 
     @Override
@@ -192,28 +387,59 @@ public class TaskServiceImpl implements TaskService {
     public TaskDTO assignTask(Long id, Long assigneeId) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        TaskSnapshot previous = TaskSnapshot.of(task);
         
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + assigneeId));
         
         task.setAssignee(assignee);
         
-        return mapToDTO(taskRepository.save(task));
+        return saveAndPublish(task, previous);
     }
 
     @Override
     @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
+        if (deleteSubtrees(List.of(id)).isEmpty()) {
             throw new EntityNotFoundException("Task not found with id: " + id);
         }
+    }
+
+    @Override
+    @Transactional
+    public BatchResult<Long> deleteTasks(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        List<DeletedTask> deleted = deleteSubtrees(distinctIds);
+        
+        Set<Long> deletedIds = deleted.stream().map(DeletedTask::id).collect(Collectors.toSet());
+        BatchResult<Long> result = new BatchResult<>();
+        deleted.forEach(task -> result.getItems().add(task.id()));
+        distinctIds.stream()
+                .filter(id -> !deletedIds.contains(id))
+                .forEach(result.getMissingIds()::add);
+        return result;
+    }
+
+    private List<DeletedTask> deleteSubtrees(List<Long> rootIds) {
+        List<DeletedTask> deleted = deletionRepository.deleteSubtrees(rootIds);
+        if (deleted.isEmpty()) {
+            return deleted;
+        }
+        
+        Set<Long> projectIds = deleted.stream()
+                .map(task -> task.snapshot().getProjectId())
+                .collect(Collectors.toSet());
+        // Checked after the delete so the whole subtree, including subtasks of other projects, is covered
+        projectIds.forEach(visibilityService::checkCanView);
         
-        taskRepository.deleteById(id);
+        deleted.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task.id(), task.snapshot())));
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByProjectAndDateRange(Long projectId, LocalDate startDate, LocalDate endDate) {
+        visibilityService.checkCanView(projectId);
         if (!projectRepository.existsById(projectId)) {
             throw new EntityNotFoundException("Project not found with id: " + projectId);
         }
@@ -223,6 +449,16 @@ public class TaskServiceImpl implements TaskService {
                 .collect(Collectors.toList());
     }
     
+    private boolean isVisible(Task task) {
+        return visibilityService.canView(task.getProject().getId());
+    }
+    
+    private TaskDTO saveAndPublish(Task task, TaskSnapshot previous) {
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(saved.getId(), previous, TaskSnapshot.of(saved)));
+        return mapToDTO(saved);
+    }
+    
     private TaskDTO mapToDTO(Task task) {
         TaskDTO dto = TaskDTO.builder()
                 .id(task.getId())
@@ -240,6 +476,7 @@ public class TaskServiceImpl implements TaskService {
                 .build();
         
         if (task.getAssignee() != null) {
+            dto.setAssigneeId(task.getAssignee().getId());
             dto.setAssignee(mapUserToDTO(task.getAssignee()));
         }
         
@@ -250,6 +487,28 @@ public class TaskServiceImpl implements TaskService {
         return dto;
     }
     
+    private void attachAssignees(List<TaskDTO> dtos) {
+        Set<Long> assigneeIds = dtos.stream()
+                .map(TaskDTO::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (assigneeIds.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, UserDTO> users = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, this::mapUserToDTO));
+        dtos.forEach(dto -> dto.setAssignee(users.get(dto.getAssigneeId())));
+    }
+    
+    private TaskDTO withAssignee(TaskDTO dto) {
+        if (dto.getAssigneeId() != null) {
+            userRepository.findById(dto.getAssigneeId())
+                    .ifPresent(user -> dto.setAssignee(mapUserToDTO(user)));
+        }
+        return dto;
+    }
+    
     private UserDTO mapUserToDTO(User user) {
         return UserDTO.builder()
                 .id(user.getId())
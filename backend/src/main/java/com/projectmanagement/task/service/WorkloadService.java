@@ -0,0 +1,12 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.UserWorkloadDTO;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+public interface WorkloadService {
+    List<UserWorkloadDTO> getWorkload(Set<Long> assigneeIds, LocalDate from, LocalDate to);
+    
+    UserWorkloadDTO getUserWorkload(Long assigneeId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,73 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.task.dto.UserWorkloadDTO;
+import com.projectmanagement.task.dto.WeeklyWorkloadDTO;
+import com.projectmanagement.task.repository.WorkloadRepository;
+import com.projectmanagement.task.repository.WorkloadRepository.WorkloadRow;
+import com.projectmanagement.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private static final int DEFAULT_WEEKS = 12;
+
+    private final WorkloadRepository workloadRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserWorkloadDTO> getWorkload(Set<Long> assigneeIds, LocalDate from, LocalDate to) {
+        LocalDate fromWeek = weekStart(from != null ? from : LocalDate.now());
+        LocalDate toWeek = weekStart(to != null ? to : fromWeek.plusWeeks(DEFAULT_WEEKS - 1));
+        
+        if (toWeek.isBefore(fromWeek)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        
+        Map<Long, UserWorkloadDTO> workloads = new LinkedHashMap<>();
+        for (WorkloadRow row : workloadRepository.findByWeekRange(assigneeIds, fromWeek, toWeek)) {
+            UserWorkloadDTO workload = workloads.computeIfAbsent(row.assigneeId(),
+                    id -> UserWorkloadDTO.builder().assigneeId(id).weeks(new ArrayList<>()).build());
+            workload.getWeeks().add(WeeklyWorkloadDTO.builder()
+                    .weekStart(row.weekStart())
+                    .isoYear(row.weekStart().get(IsoFields.WEEK_BASED_YEAR))
+                    .isoWeek(row.weekStart().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))
+                    .openHours(row.openHours())
+                    .openTasks(row.openTasks())
+                    .build());
+            workload.setTotalOpenHours(workload.getTotalOpenHours() + row.openHours());
+        }
+        
+        return new ArrayList<>(workloads.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserWorkloadDTO getUserWorkload(Long assigneeId, LocalDate from, LocalDate to) {
+        if (!userRepository.existsById(assigneeId)) {
+            throw new EntityNotFoundException("User not found with id: " + assigneeId);
+        }
+        
+        return getWorkload(Set.of(assigneeId), from, to).stream()
+                .findFirst()
+                .orElseGet(() -> UserWorkloadDTO.builder().assigneeId(assigneeId).build());
+    }
+    
+    private LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
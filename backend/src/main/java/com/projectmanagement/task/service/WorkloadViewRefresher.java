@@ -0,0 +1,52 @@
+package com.projectmanagement.task.service;
+
+import com.projectmanagement.project.event.ProjectDeletedEvent;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.repository.WorkloadRepository;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the task_workload_weekly materialized view current. Task changes only mark the
+ * view dirty; the refresh itself runs concurrently in the background so readers are never blocked.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadViewRefresher {
+
+    private final WorkloadRepository workloadRepository;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.affectsWorkload()) {
+            dirty.set(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${workload.refresh-interval:PT30S}")
+    public void refreshIfDirty() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        
+        try {
+            long start = System.nanoTime();
+            workloadRepository.refresh();
+            log.debug("Refreshed task_workload_weekly in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.error("Error refreshing task workload view: {}", e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.projectmanagement.user.controller;
 
+import com.projectmanagement.common.dto.BatchResult;
+import com.projectmanagement.common.ratelimit.EndpointClass;
+import com.projectmanagement.common.ratelimit.RateLimitClass;
+import com.projectmanagement.common.sql.SqlBudget;
 import com.projectmanagement.user.dto.CreateUserRequest;
 import com.projectmanagement.user.dto.UserDTO;
+import com.projectmanagement.user.dto.UserImportResultDTO;
+import com.projectmanagement.user.service.UserImportFormat;
+import com.projectmanagement.user.service.UserImportService;
 import com.projectmanagement.user.service.UserService;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,18 +32,37 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PostMapping
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody CreateUserRequest request) {
         return new ResponseEntity<>(userService.createUser(request), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResultDTO> importUsersCsv(InputStream body) {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResultDTO> importUsersNdjson(InputStream body) {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserImportFormat.NDJSON));
+    }
+
     @GetMapping("/{id}")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
     public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/batch")
+    @SqlBudget(maxQueries = 1)
+    public ResponseEntity<BatchResult<UserDTO>> getUsersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     @GetMapping("/username/{username}")
+    @RateLimitClass(EndpointClass.SINGLE_READ)
     public ResponseEntity<UserDTO> getUserByUsername(@PathVariable String username) {
         return ResponseEntity.ok(userService.getUserByUsername(username));
     }
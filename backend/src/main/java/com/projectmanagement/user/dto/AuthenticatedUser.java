@@ -0,0 +1,19 @@
+package com.projectmanagement.user.dto;
+
+import com.projectmanagement.user.domain.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private Long id;
+    private String keycloakId;
+    private String username;
+    private UserRole role;
+    private boolean active;
+}
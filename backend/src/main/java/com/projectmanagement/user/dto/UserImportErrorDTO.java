@@ -0,0 +1,17 @@
+package com.projectmanagement.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorDTO {
+    // 1-based data row, not counting the CSV header
+    private int row;
+    private String username;
+    private String message;
+}
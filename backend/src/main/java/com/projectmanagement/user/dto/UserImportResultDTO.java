@@ -0,0 +1,22 @@
+package com.projectmanagement.user.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDTO {
+    private int totalRows;
+    private int importedCount;
+    private int errorCount;
+    
+    // Capped at user-import.max-reported-errors; errorCount always holds the full number
+    @Builder.Default
+    private List<UserImportErrorDTO> errors = new ArrayList<>();
+}
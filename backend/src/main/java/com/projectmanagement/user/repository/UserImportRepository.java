@@ -0,0 +1,158 @@
+package com.projectmanagement.user.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bulk user inserts through a temporary staging table that is filled with COPY and merged into
+ * users in one statement. Must run inside a transaction: the staging table is dropped on commit
+ * and the COPY stream is bound to the transaction's connection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserImportRepository {
+
+    private static final String COPY_SQL =
+            "COPY user_import_staging (row_no, username, first_name, last_name, email, role) FROM STDIN (FORMAT csv)";
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StagingWriter openStaging() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("User import requires an active transaction");
+        }
+        
+        jdbcTemplate.execute("CREATE TEMP TABLE user_import_staging ("
+                + "row_no INTEGER PRIMARY KEY, "
+                + "username VARCHAR(50) NOT NULL, "
+                + "first_name VARCHAR(50) NOT NULL, "
+                + "last_name VARCHAR(50) NOT NULL, "
+                + "email VARCHAR(100) NOT NULL, "
+                + "role VARCHAR(20) NOT NULL"
+                + ") ON COMMIT DROP");
+        CopyIn copyIn = jdbcTemplate.execute((ConnectionCallback<CopyIn>) connection ->
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL));
+        return new StagingWriter(copyIn);
+    }
+
+    /**
+     * Inserts every staged row that does not collide with an existing username or email and returns
+     * the rows that were skipped. The conflict flags are evaluated against the users table as it was
+     * before the insert; a row with neither flag set lost a race with a concurrent insert. Duplicates
+     * within the file are rejected before staging, so staged usernames are unique and identify the
+     * inserted rows.
+     */
+    public List<StagedConflict> mergeStaged(LocalDateTime now) {
+        return jdbcTemplate.query(
+                "WITH inserted AS ("
+                + "  INSERT INTO users (username, first_name, last_name, email, role, active, created_at, updated_at)"
+                + "  SELECT username, first_name, last_name, email, role, true, ?, ?"
+                + "  FROM user_import_staging ORDER BY row_no"
+                + "  ON CONFLICT DO NOTHING"
+                + "  RETURNING username"
+                + ") "
+                + "SELECT s.row_no, s.username, "
+                + "EXISTS (SELECT 1 FROM users u WHERE u.username = s.username) AS username_taken, "
+                + "EXISTS (SELECT 1 FROM users u WHERE u.email = s.email) AS email_taken "
+                + "FROM user_import_staging s "
+                + "WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i.username = s.username) "
+                + "ORDER BY s.row_no",
+                (rs, rowNum) -> new StagedConflict(
+                        rs.getInt("row_no"),
+                        rs.getString("username"),
+                        rs.getBoolean("username_taken"),
+                        rs.getBoolean("email_taken")),
+                now, now);
+    }
+
+    public record StagedConflict(int row, String username, boolean usernameTaken, boolean emailTaken) {
+    }
+
+    public static class StagingWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+        private int rows;
+
+        private StagingWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        public void add(int row, String username, String firstName, String lastName, String email, String role) {
+            buffer.append(row);
+            appendField(username);
+            appendField(firstName);
+            appendField(lastName);
+            appendField(email);
+            appendField(role);
+            buffer.append('\n');
+            rows++;
+            
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        /**
+         * Completes the COPY and returns the number of staged rows.
+         */
+        public int finish() {
+            flush();
+            try {
+                copyIn.endCopy();
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("COPY user import", COPY_SQL, e);
+            }
+            return rows;
+        }
+
+        @Override
+        public void close() {
+            if (copyIn.isActive()) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException e) {
+                    throw new UncategorizedSQLException("Cancel user import", COPY_SQL, e);
+                }
+            }
+        }
+
+        // Always quoted, so commas, quotes and line breaks inside values survive the CSV format
+        private void appendField(String value) {
+            buffer.append(",\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+
+        private void flush() {
+            if (buffer.length() == 0) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("COPY user import", COPY_SQL, e);
+            }
+            buffer.setLength(0);
+        }
+    }
+}
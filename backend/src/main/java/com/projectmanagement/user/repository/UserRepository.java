@@ -3,13 +3,26 @@ package com.projectmanagement.user.repository;
 import com.projectmanagement.user.domain.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     Optional<User> findByKeycloakId(String keycloakId);
+    Optional<User> findByUsernameAndKeycloakIdIsNull(String username);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // Only links an account that is still unlinked, so concurrent first logins cannot overwrite each other.
+    // Runs in its own transaction since principals are also resolved inside read-only ones.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE User u SET u.keycloakId = :keycloakId WHERE u.id = :id AND u.keycloakId IS NULL")
+    int linkKeycloakId(@Param("id") Long id, @Param("keycloakId") String keycloakId);
 } 
\ No newline at end of file
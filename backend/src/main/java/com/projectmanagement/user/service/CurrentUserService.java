@@ -0,0 +1,12 @@
+package com.projectmanagement.user.service;
+
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import java.util.Optional;
+
+public interface CurrentUserService {
+    Optional<AuthenticatedUser> getCurrentUser();
+    
+    AuthenticatedUser requireCurrentUser();
+    
+    void evictUser(Long userId);
+}
@@ -0,0 +1,114 @@
+package com.projectmanagement.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.common.cluster.ClusterInvalidationHandler;
+import com.projectmanagement.common.cluster.ClusterInvalidationPublisher;
+import com.projectmanagement.user.domain.User;
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import com.projectmanagement.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maps the JWT subject of the calling principal to the local user. Lookups go through a
+ * bounded cache so that authorization does not cost a database round-trip per request.
+ * Only resolved users are cached, and evictions reach every instance through
+ * {@link ClusterInvalidationPublisher}.
+ */
+@Service
+public class CurrentUserServiceImpl implements CurrentUserService, ClusterInvalidationHandler {
+
+    private static final String CHANNEL = "user_principal";
+
+    private final UserRepository userRepository;
+    private final ClusterInvalidationPublisher invalidationPublisher;
+    private final Cache<String, AuthenticatedUser> principalCache;
+
+    public CurrentUserServiceImpl(UserRepository userRepository,
+                                  ClusterInvalidationPublisher invalidationPublisher,
+                                  @Value("${security.jwt.user-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${security.jwt.user-cache.ttl:PT10M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<AuthenticatedUser> getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof JwtAuthenticationToken token)) {
+            return Optional.empty();
+        }
+        
+        Jwt jwt = token.getToken();
+        AuthenticatedUser cached = principalCache.getIfPresent(jwt.getSubject());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        // Misses are not cached, so a user created or linked after their first request resolves right away
+        Optional<AuthenticatedUser> resolved = resolve(jwt.getSubject(), jwt.getClaimAsString("preferred_username"));
+        resolved.ifPresent(user -> principalCache.put(jwt.getSubject(), user));
+        return resolved;
+    }
+
+    @Override
+    public AuthenticatedUser requireCurrentUser() {
+        return getCurrentUser()
+                .orElseThrow(() -> new EntityNotFoundException("No local user found for the authenticated principal"));
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        evictLocally(userId);
+        // Delivered to all instances, this one included, once the surrounding transaction commits
+        invalidationPublisher.publish(CHANNEL, userId);
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        evictLocally(Long.valueOf(payload));
+    }
+
+    @Override
+    public void onResync() {
+        principalCache.invalidateAll();
+    }
+    
+    private void evictLocally(Long userId) {
+        principalCache.asMap().values().removeIf(user -> user.getId().equals(userId));
+    }
+    
+    private Optional<AuthenticatedUser> resolve(String keycloakId, String username) {
+        Optional<User> user = userRepository.findByKeycloakId(keycloakId);
+        if (user.isEmpty() && username != null) {
+            // Accounts created before their first login are linked on it; linked accounts only match by subject
+            user = userRepository.findByUsernameAndKeycloakIdIsNull(username)
+                    .filter(u -> userRepository.linkKeycloakId(u.getId(), keycloakId) == 1);
+        }
+        
+        return user.map(u -> AuthenticatedUser.builder()
+                .id(u.getId())
+                .keycloakId(keycloakId)
+                .username(u.getUsername())
+                .role(u.getRole())
+                .active(u.isActive())
+                .build());
+    }
+}
@@ -0,0 +1,6 @@
+package com.projectmanagement.user.service;
+
+public enum UserImportFormat {
+    CSV,
+    NDJSON
+}
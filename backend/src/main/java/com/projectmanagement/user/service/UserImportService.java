@@ -0,0 +1,12 @@
+package com.projectmanagement.user.service;
+
+import com.projectmanagement.user.dto.UserImportResultDTO;
+import java.io.InputStream;
+
+public interface UserImportService {
+    /**
+     * Streams the rows into the users table. Invalid rows and rows whose username or email is
+     * already taken are skipped and reported; every other row is imported.
+     */
+    UserImportResultDTO importUsers(InputStream input, UserImportFormat format);
+}
@@ -0,0 +1,160 @@
+package com.projectmanagement.user.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.CreateUserRequest;
+import com.projectmanagement.user.dto.UserImportErrorDTO;
+import com.projectmanagement.user.dto.UserImportResultDTO;
+import com.projectmanagement.user.repository.UserImportRepository;
+import com.projectmanagement.user.repository.UserImportRepository.StagedConflict;
+import com.projectmanagement.user.repository.UserImportRepository.StagingWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(Map.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private static final ObjectReader NDJSON_READER = new ObjectMapper().readerFor(Map.class);
+
+    private final UserImportRepository importRepository;
+    private final Validator validator;
+    private final int maxReportedErrors;
+
+    public UserImportServiceImpl(UserImportRepository importRepository,
+                                 Validator validator,
+                                 @Value("${user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.importRepository = importRepository;
+        this.validator = validator;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    @Transactional
+    public UserImportResultDTO importUsers(InputStream input, UserImportFormat format) {
+        long start = System.nanoTime();
+        UserImportResultDTO result = new UserImportResultDTO();
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        int row = 0;
+        int staged;
+        
+        try (MappingIterator<Map<String, Object>> rows = reader(format).readValues(input);
+             StagingWriter staging = importRepository.openStaging()) {
+            while (rows.hasNextValue()) {
+                row++;
+                Map<String, Object> fields = rows.nextValue();
+                CreateUserRequest request = toRequest(fields);
+                String error = validate(request, text(fields, "role"));
+                if (error == null && usernames.contains(request.getUsername())) {
+                    error = "Duplicate username in import: " + request.getUsername();
+                } else if (error == null && emails.contains(request.getEmail())) {
+                    error = "Duplicate email in import: " + request.getEmail();
+                }
+                
+                if (error != null) {
+                    addError(result, row, request.getUsername(), error);
+                    continue;
+                }
+                usernames.add(request.getUsername());
+                emails.add(request.getEmail());
+                staging.add(row, request.getUsername(), request.getFirstName(), request.getLastName(),
+                        request.getEmail(), request.getRole().name());
+            }
+            staged = staging.finish();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed import data after row " + row + ": " + e.getMessage());
+        }
+        
+        for (StagedConflict conflict : importRepository.mergeStaged(LocalDateTime.now())) {
+            addError(result, conflict.row(), conflict.username(), conflictMessage(conflict));
+            staged--;
+        }
+        
+        result.setTotalRows(row);
+        result.setImportedCount(staged);
+        log.info("Imported {} of {} users in {} ms", staged, row, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private ObjectReader reader(UserImportFormat format) {
+        return format == UserImportFormat.CSV ? CSV_READER : NDJSON_READER;
+    }
+
+    private CreateUserRequest toRequest(Map<String, Object> fields) {
+        return CreateUserRequest.builder()
+                .username(text(fields, "username"))
+                .firstName(text(fields, "firstName"))
+                .lastName(text(fields, "lastName"))
+                .email(text(fields, "email"))
+                .role(role(text(fields, "role")))
+                .build();
+    }
+
+    private String validate(CreateUserRequest request, String role) {
+        if (role != null && !role.isEmpty() && request.getRole() == null) {
+            return "Invalid role: " + role;
+        }
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void addError(UserImportResultDTO result, int row, String username, String message) {
+        result.setErrorCount(result.getErrorCount() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new UserImportErrorDTO(row, username, message));
+        }
+    }
+
+    private static String conflictMessage(StagedConflict conflict) {
+        if (conflict.usernameTaken() && conflict.emailTaken()) {
+            return "Username and email already exist";
+        } else if (conflict.usernameTaken()) {
+            return "Username already exists";
+        } else if (conflict.emailTaken()) {
+            return "Email already exists";
+        }
+        return "Username or email was taken concurrently";
+    }
+
+    private static String text(Map<String, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString().trim() : null;
+    }
+
+    private static UserRole role(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UserRole.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
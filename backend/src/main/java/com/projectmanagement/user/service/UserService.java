@@ -1,5 +1,6 @@
 package com.projectmanagement.user.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.user.dto.CreateUserRequest;
 import com.projectmanagement.user.dto.UserDTO;
 import java.util.List;
@@ -9,6 +10,8 @@ public interface UserService {
     
     UserDTO getUserById(Long id);
     
+    BatchResult<UserDTO> getUsersByIds(List<Long> ids);
+    
     UserDTO getUserByUsername(String username);
     
     List<UserDTO> getAllUsers();
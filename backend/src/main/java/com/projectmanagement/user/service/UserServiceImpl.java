@@ -1,5 +1,6 @@
 package com.projectmanagement.user.service;
 
+import com.projectmanagement.common.dto.BatchResult;
 import com.projectmanagement.user.domain.User;
 import com.projectmanagement.user.dto.CreateUserRequest;
 import com.projectmanagement.user.dto.UserDTO;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     @Override
     @Transactional
@@ -48,6 +50,13 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResult<UserDTO> getUsersByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, userRepository.findAllById(distinctIds), User::getId, this::mapToDTO);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserDTO getUserByUsername(String username) {
@@ -87,7 +96,9 @@ public class UserServiceImpl implements UserService {
         user.setEmail(request.getEmail());
         user.setRole(request.getRole());
         
-        return mapToDTO(userRepository.save(user));
+        UserDTO updated = mapToDTO(userRepository.save(user));
+        currentUserService.evictUser(id);
+        return updated;
     }
 
     @Override
@@ -98,6 +109,7 @@ public class UserServiceImpl implements UserService {
         
         user.setActive(false);
         userRepository.save(user);
+        currentUserService.evictUser(id);
     }
 
     @Override
@@ -108,6 +120,7 @@ public class UserServiceImpl implements UserService {
         }
         
         userRepository.deleteById(id);
+        currentUserService.evictUser(id);
     }
     
     private UserDTO mapToDTO(User user) {
@@ -0,0 +1,5 @@
+-- Calendar clients cannot send a bearer token, so feeds are authorized by a per-user secret in the URL.
+-- Only its SHA-256 is stored; issuing a new token replaces it, which revokes the old feed URLs.
+ALTER TABLE users ADD COLUMN calendar_token_hash VARCHAR(64);
+
+CREATE UNIQUE INDEX idx_users_calendar_token_hash ON users(calendar_token_hash);
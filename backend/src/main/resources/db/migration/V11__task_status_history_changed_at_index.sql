@@ -0,0 +1,3 @@
+-- Lets flow metrics read the task ids changed since their last sync without scanning a month of history.
+-- Created per partition; the table is append-only, so the short lock only delays inserts.
+CREATE INDEX idx_task_status_history_changed_at ON task_status_history(changed_at);
@@ -0,0 +1,13 @@
+-- Open estimated hours per assignee and ISO week (weeks start on Monday)
+CREATE MATERIALIZED VIEW task_workload_weekly AS
+SELECT t.assignee_id,
+       date_trunc('week', t.due_date)::date AS week_start,
+       SUM(COALESCE(t.estimated_hours, 0))::bigint AS open_hours,
+       COUNT(*) AS open_tasks
+FROM tasks t
+WHERE t.assignee_id IS NOT NULL
+  AND t.status NOT IN ('DONE', 'CANCELLED')
+GROUP BY t.assignee_id, date_trunc('week', t.due_date)::date;
+
+-- Required for REFRESH MATERIALIZED VIEW CONCURRENTLY
+CREATE UNIQUE INDEX idx_task_workload_weekly_assignee_week ON task_workload_weekly(assignee_id, week_start);
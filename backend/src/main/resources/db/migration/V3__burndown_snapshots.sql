@@ -0,0 +1,23 @@
+-- Live task counts and estimated hours per project and status, maintained incrementally
+CREATE TABLE project_status_totals (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    task_count INTEGER NOT NULL DEFAULT 0,
+    estimated_hours BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, status)
+);
+
+INSERT INTO project_status_totals (project_id, status, task_count, estimated_hours)
+SELECT project_id, status, COUNT(*), COALESCE(SUM(estimated_hours), 0)
+FROM tasks
+GROUP BY project_id, status;
+
+-- Append-only daily copies of project_status_totals
+CREATE TABLE project_status_daily (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    snapshot_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    task_count INTEGER NOT NULL,
+    estimated_hours BIGINT NOT NULL,
+    PRIMARY KEY (project_id, snapshot_date, status)
+);
@@ -0,0 +1,28 @@
+-- Append-only log of task status and assignee transitions, partitioned by month
+CREATE TABLE task_status_history (
+    id BIGSERIAL,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20),
+    from_assignee_id BIGINT,
+    to_assignee_id BIGINT,
+    changed_at TIMESTAMP NOT NULL,
+    changed_by VARCHAR(50),
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX idx_task_status_history_task_id ON task_status_history(task_id, changed_at);
+
+CREATE OR REPLACE FUNCTION create_task_status_history_partition(month_start DATE) RETURNS void AS $$
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF task_status_history FOR VALUES FROM (%L) TO (%L)',
+        'task_status_history_' || to_char(month_start, 'YYYY_MM'),
+        date_trunc('month', month_start)::date,
+        (date_trunc('month', month_start) + INTERVAL '1 month')::date);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_task_status_history_partition((date_trunc('month', now()) + make_interval(months => n))::date)
+FROM generate_series(-1, 3) AS n;
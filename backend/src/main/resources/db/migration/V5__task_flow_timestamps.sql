@@ -0,0 +1,8 @@
+-- When work on a task first started and when it was last completed
+ALTER TABLE tasks ADD COLUMN started_at TIMESTAMP;
+ALTER TABLE tasks ADD COLUMN completed_at TIMESTAMP;
+
+-- Best available approximation for tasks finished before these columns existed
+UPDATE tasks SET completed_at = updated_at WHERE status = 'DONE';
+
+CREATE INDEX idx_tasks_completed_at ON tasks(completed_at) WHERE completed_at IS NOT NULL;
@@ -0,0 +1,24 @@
+-- Cold storage for finished tasks, moved out of tasks by the archiver
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    due_date DATE NOT NULL,
+    estimated_hours INTEGER,
+    actual_hours INTEGER,
+    external_id VARCHAR(50),
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    assignee_id BIGINT,
+    parent_task_id BIGINT,
+    created_at TIMESTAMP NOT NULL,
+    created_by VARCHAR(50),
+    updated_at TIMESTAMP NOT NULL,
+    updated_by VARCHAR(50),
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tasks_archive_project_id ON tasks_archive(project_id);
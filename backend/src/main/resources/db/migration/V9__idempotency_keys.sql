@@ -0,0 +1,14 @@
+-- Responses of mutating requests sent with an Idempotency-Key header, replayed on retries
+CREATE TABLE idempotency_keys (
+    -- SHA-256 of caller, method, path and key, so keys never collide across users or endpoints
+    key_hash VARCHAR(64) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    -- NULL while the first request is still being processed
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    body BYTEA,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
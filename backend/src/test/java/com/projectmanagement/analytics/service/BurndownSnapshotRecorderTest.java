@@ -0,0 +1,72 @@
+package com.projectmanagement.analytics.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.projectmanagement.analytics.repository.BurndownRepository;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BurndownSnapshotRecorderTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private final BurndownRepository repository = mock(BurndownRepository.class);
+    private final BurndownSnapshotRecorder recorder = new BurndownSnapshotRecorder(repository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void oppositeTransitionsUpdateRowsInTheSameOrder() {
+        recorder.onTaskChanged(TaskChangedEvent.updated(1L, snapshot(TaskStatus.DONE), snapshot(TaskStatus.TODO)));
+        recorder.onTaskChanged(TaskChangedEvent.updated(2L, snapshot(TaskStatus.TODO), snapshot(TaskStatus.DONE)));
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).applyDelta(PROJECT_ID, TaskStatus.TODO, 1, 5);
+        order.verify(repository).applyDelta(PROJECT_ID, TaskStatus.DONE, -1, -5);
+        order.verify(repository).applyDelta(PROJECT_ID, TaskStatus.TODO, -1, -5);
+        order.verify(repository).applyDelta(PROJECT_ID, TaskStatus.DONE, 1, 5);
+    }
+
+    @Test
+    void deltasOfATransactionAreSummedAndWrittenBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.onTaskChanged(TaskChangedEvent.created(1L, snapshot(TaskStatus.TODO)));
+        recorder.onTaskChanged(TaskChangedEvent.created(2L, snapshot(TaskStatus.TODO)));
+        recorder.onTaskChanged(TaskChangedEvent.updated(3L, snapshot(TaskStatus.TODO), snapshot(TaskStatus.DONE)));
+        recorder.onTaskChanged(TaskChangedEvent.updated(3L, snapshot(TaskStatus.DONE), snapshot(TaskStatus.TODO)));
+        verifyNoInteractions(repository);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        // The task that went to DONE and back nets out
+        verify(repository).applyDelta(PROJECT_ID, TaskStatus.TODO, 2, 10);
+        verifyNoMoreInteractions(repository);
+    }
+
+    private static TaskSnapshot snapshot(TaskStatus status) {
+        return TaskSnapshot.builder()
+                .projectId(PROJECT_ID)
+                .status(status)
+                .priority(TaskPriority.MEDIUM)
+                .estimatedHours(5)
+                .build();
+    }
+}
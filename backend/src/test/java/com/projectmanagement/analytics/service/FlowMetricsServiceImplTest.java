@@ -0,0 +1,178 @@
+package com.projectmanagement.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.projectmanagement.analytics.dto.FlowMetricsDTO;
+import com.projectmanagement.analytics.dto.ThroughputPointDTO;
+import com.projectmanagement.analytics.repository.FlowMetricsRepository;
+import com.projectmanagement.analytics.repository.FlowMetricsRepository.CompletedTaskRow;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlowMetricsServiceImplTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private final FlowMetricsRepository repository = mock(FlowMetricsRepository.class);
+    private final FlowMetricsServiceImpl service = new FlowMetricsServiceImpl(repository, 0.01, Duration.ofMinutes(5));
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        service.bootstrap();
+    }
+
+    @Test
+    void reopenedTaskCountsOnceWithItsLatestCompletion() {
+        TaskSnapshot inProgress = snapshot(TaskStatus.IN_PROGRESS, 10L, null);
+        TaskSnapshot firstDone = snapshot(TaskStatus.DONE, 10L, now.minusHours(2));
+        TaskSnapshot reopened = snapshot(TaskStatus.IN_PROGRESS, 10L, null);
+        TaskSnapshot secondDone = snapshot(TaskStatus.DONE, 10L, now);
+        
+        service.onTaskChanged(TaskChangedEvent.updated(1L, inProgress, firstDone));
+        service.onTaskChanged(TaskChangedEvent.updated(1L, firstDone, reopened));
+        assertThat(metrics().getCycleTime().getSampleCount()).isZero();
+        
+        service.onTaskChanged(TaskChangedEvent.updated(1L, reopened, secondDone));
+        FlowMetricsDTO metrics = metrics();
+        assertThat(metrics.getCycleTime().getSampleCount()).isEqualTo(1);
+        assertThat(metrics.getLeadTime().getSampleCount()).isEqualTo(1);
+        assertThat(completions(metrics)).isEqualTo(1);
+    }
+
+    @Test
+    void reassignedDoneTaskMovesBetweenAssignees() {
+        TaskSnapshot done = snapshot(TaskStatus.DONE, 10L, now);
+        service.onTaskChanged(TaskChangedEvent.updated(1L, snapshot(TaskStatus.REVIEW, 10L, null), done));
+        
+        service.onTaskChanged(TaskChangedEvent.updated(1L, done, snapshot(TaskStatus.DONE, 20L, now)));
+        
+        assertThat(service.getFlowMetrics(PROJECT_ID, 10L, null, 4).getCycleTime().getSampleCount()).isZero();
+        assertThat(service.getFlowMetrics(PROJECT_ID, 20L, null, 4).getCycleTime().getSampleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedDoneTaskIsRemoved() {
+        TaskSnapshot done = snapshot(TaskStatus.DONE, 10L, now);
+        service.onTaskChanged(TaskChangedEvent.updated(1L, snapshot(TaskStatus.REVIEW, 10L, null), done));
+        
+        service.onTaskChanged(TaskChangedEvent.deleted(1L, done));
+        
+        assertThat(completions(metrics())).isZero();
+    }
+
+    @Test
+    void archivingAndRestoringKeepsTheCompletion() {
+        TaskSnapshot done = snapshot(TaskStatus.DONE, 10L, now);
+        service.onTaskChanged(TaskChangedEvent.updated(1L, snapshot(TaskStatus.REVIEW, 10L, null), done));
+        
+        service.onTaskChanged(TaskChangedEvent.archived(1L, done));
+        assertThat(completions(metrics())).isEqualTo(1);
+        
+        service.onTaskChanged(TaskChangedEvent.restored(1L, done));
+        assertThat(completions(metrics())).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildKeepsCompletionsCommittedDuringTheScan() {
+        doAnswer(invocation -> {
+            Consumer<CompletedTaskRow> consumer = invocation.getArgument(0);
+            consumer.accept(new CompletedTaskRow(1L, PROJECT_ID, 10L, TaskPriority.HIGH,
+                    now.minusDays(3), now.minusDays(2), now.minusDays(1)));
+            // Another task completes while the scan runs, stamped before the scan started but
+            // committed after its snapshot
+            service.onTaskChanged(TaskChangedEvent.updated(2L,
+                    snapshot(TaskStatus.REVIEW, 10L, null), snapshot(TaskStatus.DONE, 10L, now.minusHours(1))));
+            return null;
+        }).when(repository).forEachCompletedTask(any());
+        
+        service.rebuild();
+        
+        assertThat(metrics().getCycleTime().getSampleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void replayedChangeOfATaskTheScanAlreadySawCountsOnce() {
+        doAnswer(invocation -> {
+            Consumer<CompletedTaskRow> consumer = invocation.getArgument(0);
+            consumer.accept(new CompletedTaskRow(1L, PROJECT_ID, 10L, TaskPriority.HIGH,
+                    now.minusDays(3), now.minusDays(2), now));
+            service.onTaskChanged(TaskChangedEvent.updated(1L,
+                    snapshot(TaskStatus.REVIEW, 10L, null), snapshot(TaskStatus.DONE, 10L, now)));
+            return null;
+        }).when(repository).forEachCompletedTask(any());
+        
+        service.rebuild();
+        
+        assertThat(completions(metrics())).isEqualTo(1);
+    }
+
+    @Test
+    void syncAppliesChangesMadeOnOtherInstances() {
+        service.onTaskChanged(TaskChangedEvent.updated(1L,
+                snapshot(TaskStatus.REVIEW, 10L, null), snapshot(TaskStatus.DONE, 10L, now)));
+        // Elsewhere, task 1 was reopened and task 2 completed
+        when(repository.findTaskIdsChangedSince(any())).thenReturn(List.of(1L, 2L));
+        when(repository.findCompletedTasks(List.of(1L, 2L))).thenReturn(List.of(
+                new CompletedTaskRow(2L, PROJECT_ID, 20L, TaskPriority.LOW, now.minusDays(3), null, now)));
+        
+        service.sync();
+        service.sync();
+        
+        assertThat(service.getFlowMetrics(PROJECT_ID, 10L, null, 4).getLeadTime().getSampleCount()).isZero();
+        assertThat(service.getFlowMetrics(PROJECT_ID, 20L, null, 4).getLeadTime().getSampleCount()).isEqualTo(1);
+        assertThat(completions(metrics())).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildReplacesLocallyAppliedChanges() {
+        service.onTaskChanged(TaskChangedEvent.updated(1L,
+                snapshot(TaskStatus.REVIEW, 10L, null), snapshot(TaskStatus.DONE, 10L, now)));
+        doAnswer(invocation -> {
+            Consumer<CompletedTaskRow> consumer = invocation.getArgument(0);
+            consumer.accept(new CompletedTaskRow(1L, PROJECT_ID, 10L, TaskPriority.HIGH,
+                    now.minusDays(3), now.minusDays(2), now));
+            consumer.accept(new CompletedTaskRow(3L, PROJECT_ID, 30L, TaskPriority.LOW,
+                    now.minusDays(3), null, now.minusDays(1)));
+            return null;
+        }).when(repository).forEachCompletedTask(any());
+        
+        service.rebuild();
+        
+        FlowMetricsDTO metrics = metrics();
+        assertThat(metrics.getLeadTime().getSampleCount()).isEqualTo(2);
+        assertThat(metrics.getCycleTime().getSampleCount()).isEqualTo(1);
+    }
+    
+    private FlowMetricsDTO metrics() {
+        return service.getFlowMetrics(PROJECT_ID, null, null, 4);
+    }
+    
+    private static long completions(FlowMetricsDTO metrics) {
+        return metrics.getWeeklyThroughput().stream().mapToLong(ThroughputPointDTO::getCompletedTasks).sum();
+    }
+    
+    private TaskSnapshot snapshot(TaskStatus status, Long assigneeId, LocalDateTime completedAt) {
+        return TaskSnapshot.builder()
+                .projectId(PROJECT_ID)
+                .assigneeId(assigneeId)
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .createdAt(now.minusDays(3))
+                .startedAt(now.minusDays(2))
+                .completedAt(completedAt)
+                .build();
+    }
+}
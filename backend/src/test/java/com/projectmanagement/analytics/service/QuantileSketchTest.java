@@ -0,0 +1,142 @@
+package com.projectmanagement.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks every estimated quantile against the exact value from the sorted input, using the same
+ * rank definition as the sketch: the element at floor(q * (n - 1)).
+ */
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.85, 0.9, 0.95, 0.99, 0.999, 1};
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.02, 0.05})
+    void uniformValuesStayWithinRelativeAccuracy(double accuracy) {
+        Random random = new Random(1);
+        assertAccurate(accuracy, values(100_000, () -> random.nextDouble() * 1_000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.02, 0.05})
+    void heavyTailedValuesStayWithinRelativeAccuracy(double accuracy) {
+        Random random = new Random(2);
+        // Log-normal hours, roughly the shape of real cycle times
+        assertAccurate(accuracy, values(100_000, () -> Math.exp(3 + 1.5 * random.nextGaussian())));
+    }
+
+    @Test
+    void zeroDurationsAreCountedExactly() {
+        Random random = new Random(3);
+        assertAccurate(0.01, values(10_000, () -> random.nextInt(4) == 0 ? 0 : random.nextDouble() * 40));
+    }
+
+    @Test
+    void smallSamplesStayWithinRelativeAccuracy() {
+        assertAccurate(0.01, new double[] {0.5, 2, 3, 8, 13, 21, 34, 400});
+        assertAccurate(0.01, new double[] {42});
+    }
+
+    @Test
+    void mergedSketchEqualsSketchOfAllValues() {
+        Random random = new Random(4);
+        double[] first = values(20_000, () -> random.nextExponential() * 24);
+        double[] second = values(30_000, () -> random.nextExponential() * 100);
+        
+        QuantileSketch merged = sketch(0.01, first);
+        merged.merge(sketch(0.01, second));
+        QuantileSketch combined = sketch(0.01, first);
+        Arrays.stream(second).forEach(combined::add);
+        
+        assertThat(merged.getCount()).isEqualTo(combined.getCount());
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q)).isEqualTo(combined.quantile(q));
+        }
+        assertAccurate(merged, concat(first, second));
+    }
+
+    @Test
+    void removedValuesNoLongerCount() {
+        Random random = new Random(5);
+        double[] kept = values(20_000, () -> random.nextDouble() * 100);
+        double[] removed = values(5_000, () -> 100 + random.nextDouble() * 900);
+        
+        QuantileSketch sketch = sketch(0.01, concat(kept, removed));
+        for (double value : removed) {
+            assertThat(sketch.remove(value)).isTrue();
+        }
+        
+        assertThat(sketch.getCount()).isEqualTo(kept.length);
+        assertAccurate(sketch, kept);
+    }
+
+    @Test
+    void removingUncountedValueIsRejected() {
+        QuantileSketch sketch = sketch(0.01, new double[] {1, 2, 3});
+        
+        assertThat(sketch.remove(500)).isFalse();
+        assertThat(sketch.remove(0)).isFalse();
+        assertThat(sketch.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        
+        assertThat(sketch.quantile(0.5)).isNaN();
+        sketch.add(7);
+        sketch.remove(7);
+        assertThat(sketch.quantile(0.5)).isNaN();
+    }
+
+    @Test
+    void sketchesWithDifferentAccuracyDoNotMerge() {
+        assertThatThrownBy(() -> new QuantileSketch(0.01).merge(new QuantileSketch(0.02)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static void assertAccurate(double accuracy, double[] values) {
+        assertAccurate(sketch(accuracy, values), values);
+    }
+    
+    private static void assertAccurate(QuantileSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double exact = sorted[(int) Math.floor(q * (sorted.length - 1))];
+            double tolerance = sketch.getRelativeAccuracy() * exact * (1 + 1e-9) + 1e-12;
+            assertThat(sketch.quantile(q))
+                    .as("quantile %s of %s values", q, sorted.length)
+                    .isCloseTo(exact, Offset.offset(tolerance));
+        }
+    }
+    
+    private static QuantileSketch sketch(double accuracy, double[] values) {
+        QuantileSketch sketch = new QuantileSketch(accuracy);
+        Arrays.stream(values).forEach(sketch::add);
+        return sketch;
+    }
+    
+    private static double[] values(int count, DoubleSupplier supplier) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = supplier.getAsDouble();
+        }
+        return values;
+    }
+    
+    private static double[] concat(double[] a, double[] b) {
+        double[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+}
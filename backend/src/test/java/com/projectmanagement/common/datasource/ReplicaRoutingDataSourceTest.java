@@ -0,0 +1,81 @@
+package com.projectmanagement.common.datasource;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(replica.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primary, List.of(replica), new ReadYourWritesTracker(Duration.ofSeconds(5))));
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        // The proxy reads the connection defaults from the primary once
+        clearInvocations(primary, replica);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws SQLException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> query());
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void primaryReadsUseThePrimary() throws SQLException {
+        new PrimaryReads(transactionManager).execute(() -> {
+            query();
+            return null;
+        });
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void nestedPrimaryReadsJoinTheOuterOne() throws SQLException {
+        PrimaryReads primaryReads = new PrimaryReads(transactionManager);
+
+        primaryReads.execute(() -> primaryReads.execute(() -> {
+            query();
+            return null;
+        }));
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private void query() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.projectmanagement.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class BatchResultTest {
+
+    @Test
+    void itemsFollowTheRequestedOrder() {
+        BatchResult<String> result = BatchResult.of(List.of(3L, 1L, 2L), Map.of(1L, "one", 2L, "two", 3L, "three"));
+
+        assertThat(result.getItems()).containsExactly("three", "one", "two");
+        assertThat(result.getMissingIds()).isEmpty();
+    }
+
+    @Test
+    void unknownIdsAreListedInRequestOrder() {
+        BatchResult<String> result = BatchResult.of(List.of(9L, 1L, 7L), Map.of(1L, "one"));
+
+        assertThat(result.getItems()).containsExactly("one");
+        assertThat(result.getMissingIds()).containsExactly(9L, 7L);
+    }
+
+    @Test
+    void mapsEntitiesByTheirId() {
+        BatchResult<Integer> result = BatchResult.of(List.of(2L, 5L), List.of("5", "2"),
+                Long::valueOf, value -> Integer.parseInt(value) * 10);
+
+        assertThat(result.getItems()).containsExactly(20, 50);
+    }
+
+    @Test
+    void duplicatesAreDroppedKeepingTheFirstPosition() {
+        assertThat(BatchResult.distinctIds(List.of(4L, 2L, 4L, 1L, 2L))).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedRequests() {
+        assertThatThrownBy(() -> BatchResult.distinctIds(Collections.emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<Long> tooMany = LongStream.rangeClosed(1, BatchResult.MAX_IDS + 1).boxed().toList();
+        assertThatThrownBy(() -> BatchResult.distinctIds(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
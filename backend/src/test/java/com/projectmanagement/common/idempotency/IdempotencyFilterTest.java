@@ -0,0 +1,108 @@
+package com.projectmanagement.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private final IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyProperties(), store,
+            new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        when(store.claim(anyString(), anyString(), any(), any())).thenReturn(true);
+        when(store.findCompleted(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void sameKeyAndQueryIsReplayed() throws Exception {
+        send("status=DONE");
+
+        MockHttpServletResponse retry = send("status=DONE");
+
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void sameKeyWithOtherQueryIsRejected() throws Exception {
+        send("status=DONE");
+
+        MockHttpServletResponse other = send("status=TODO");
+
+        assertThat(other.getStatus()).isEqualTo(422);
+        assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void oversizedBodyIsRejectedWithoutRunningTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.setContentType("application/json");
+        request.setContent(new byte[300 * 1024]);
+        request.addHeader(IdempotencyFilter.HEADER, "key-2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+        verify(store, never()).claim(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void bulkImportsStreamPastTheFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/import");
+        request.setContentType("text/csv");
+        request.setContent("username,email\n".getBytes());
+        request.addHeader(IdempotencyFilter.HEADER, "key-3");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void runningRequestsRenewTheirClaim() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.setContentType("application/json");
+        request.setContent("{}".getBytes());
+        request.addHeader(IdempotencyFilter.HEADER, "key-4");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> filter.renewClaims());
+        verify(store).renew(argThat(keys -> keys.size() == 1));
+
+        // Finished requests are no longer renewed
+        filter.renewClaims();
+        verify(store).renew(any());
+    }
+
+    private MockHttpServletResponse send(String query) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/tasks/1/status");
+        request.setQueryString(query);
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package com.projectmanagement.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = 10_000_000L;
+    private static final long SLOW = 100_000_000L;
+
+    @Test
+    void rejectsOnceLimitIsInUse() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 2, false, 2.0, 0.9);
+        
+        assertThat(limit.tryAcquire()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isZero();
+        
+        limit.release(2, FAST);
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+    }
+
+    @Test
+    void backsOffWhileLatencyExceedsBaselineAndRecovers() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 20, true, 2.0, 0.9);
+        complete(limit, 200, FAST);
+        
+        complete(limit, 30, SLOW);
+        assertThat(limit.getLimit()).isLessThan(20).isGreaterThanOrEqualTo(2);
+        
+        for (int i = 0; i < 100; i++) {
+            int inFlight = limit.tryAcquire();
+            // Keep the limit in use so that it is allowed to grow
+            limit.release(limit.getLimit(), FAST);
+            assertThat(inFlight).isPositive();
+        }
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void steadyMixOfFastAndSlowRequestsDoesNotBackOff() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 20, true, 2.0, 0.9);
+        
+        for (int i = 0; i < 1000; i++) {
+            int inFlight = limit.tryAcquire();
+            // A handler whose responses range from cached hits to full scans
+            limit.release(limit.getLimit(), i % 2 == 0 ? FAST : FAST * 5);
+            assertThat(inFlight).isPositive();
+        }
+        
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void unsampledReleasesFreeThePermitOnly() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 2, true, 2.0, 0.5);
+        complete(limit, 5, FAST);
+        
+        limit.tryAcquire();
+        limit.releaseWithoutSample();
+        
+        assertThat(limit.getInFlight()).isZero();
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void neverDropsBelowMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 10, true, 2.0, 0.5);
+        complete(limit, 200, FAST);
+        
+        for (long latency = SLOW; latency < SLOW * 1000; latency *= 3) {
+            complete(limit, 1, latency);
+        }
+        
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void fixedLimitIgnoresLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 5, false, 2.0, 0.5);
+        complete(limit, 5, FAST);
+        complete(limit, 5, SLOW * 100);
+        
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+    
+    private static void complete(AdaptiveConcurrencyLimit limit, int requests, long latencyNanos) {
+        for (int i = 0; i < requests; i++) {
+            int inFlight = limit.tryAcquire();
+            limit.release(inFlight, latencyNanos);
+        }
+    }
+}
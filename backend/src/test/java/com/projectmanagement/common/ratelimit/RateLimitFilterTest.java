@@ -0,0 +1,77 @@
+package com.projectmanagement.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+    private final EndpointClassifier classifier = mock(EndpointClassifier.class);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getDefaultLimit().setCapacity(1000);
+        properties.getBulkheads().setList(1);
+        filter = new RateLimitFilter(properties, classifier,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+        when(classifier.resolve(any())).thenReturn(
+                new EndpointClassifier.Endpoint("TaskController#exportTasks", EndpointClass.LIST));
+    }
+
+    @Test
+    void asyncResponseHoldsItsPermitUntilCompletion() throws Exception {
+        MockHttpServletRequest streaming = request();
+        filter.doFilter(streaming, new MockHttpServletResponse(),
+                (req, res) -> req.startAsync());
+
+        assertThat(send(new MockFilterChain()).getStatus()).isEqualTo(429);
+
+        AsyncContext asyncContext = streaming.getAsyncContext();
+        asyncContext.complete();
+
+        assertThat(send(new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void failedRequestsReleaseTheirPermit() throws Exception {
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = request();
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), failing);
+            } catch (IllegalStateException expected) {
+                // propagated to the caller as usual
+            }
+        }
+
+        assertThat(send(new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse send(FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
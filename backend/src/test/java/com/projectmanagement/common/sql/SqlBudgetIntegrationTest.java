@@ -0,0 +1,98 @@
+package com.projectmanagement.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Calls every endpoint with a {@link SqlBudget} in ENFORCE mode with enough rows that an N+1
+ * regression exceeds the budget and fails the request.
+ */
+@TestPropertySource(properties = "sql-inspection.mode=ENFORCE")
+class SqlBudgetIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 20;
+    private static final Set<String> COVERED = Set.of("/users/batch", "/projects/batch", "/tasks/batch");
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private String pmo;
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pmo = unique("pmo");
+        insertUser(pmo, UserRole.PMO);
+        for (int i = 0; i < ROWS; i++) {
+            long userId = insertUser(unique("dev"), UserRole.DEVELOPER);
+            long projectId = insertProject(unique("project"), userId);
+            addTeamMember(projectId, userId);
+            userIds.add(userId);
+            projectIds.add(projectId);
+            taskIds.add(insertTask(projectId, userId, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(i)));
+            if (i % 4 == 0) {
+                taskIds.add(insertArchivedTask(projectId, userId));
+            }
+        }
+        
+        // Resolves the caller once, as the principal cache would in steady state
+        mockMvc.perform(get("/tasks/{id}", taskIds.get(0)).with(as(pmo, UserRole.PMO)));
+    }
+
+    @Test
+    void everyBudgetedEndpointIsCovered() {
+        Set<String> budgeted = new TreeSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, method) -> {
+            if (method.hasMethodAnnotation(SqlBudget.class) || method.getBeanType().isAnnotationPresent(SqlBudget.class)) {
+                budgeted.addAll(info.getPatternValues());
+            }
+        });
+        
+        assertThat(COVERED).containsAll(budgeted);
+    }
+
+    @Test
+    void usersBatchStaysWithinBudget() throws Exception {
+        assertWithinBudget("/users/batch", userIds);
+    }
+
+    @Test
+    void projectsBatchStaysWithinBudget() throws Exception {
+        assertWithinBudget("/projects/batch", projectIds);
+    }
+
+    @Test
+    void tasksBatchStaysWithinBudgetAcrossLiveAndArchivedTasks() throws Exception {
+        assertWithinBudget("/tasks/batch", taskIds);
+    }
+    
+    private void assertWithinBudget(String path, List<Long> ids) throws Exception {
+        String idParam = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        MvcResult result = mockMvc.perform(get(path).param("ids", idParam).with(as(pmo, UserRole.PMO)))
+                .andReturn();
+        
+        assertThat(result.getResolvedException()).isNull();
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+    }
+}
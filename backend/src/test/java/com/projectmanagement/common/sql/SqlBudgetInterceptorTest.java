@@ -0,0 +1,120 @@
+package com.projectmanagement.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class SqlBudgetInterceptorTest {
+
+    private final SqlInspectionProperties properties = new SqlInspectionProperties();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/batch");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+    }
+
+    @Test
+    void methodBudgetTakesPrecedenceOverTypeBudget() throws Exception {
+        SqlRequestStats stats = begin();
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new BudgetedController(), "single"));
+        
+        assertThat(stats.getMaxQueries()).isEqualTo(1);
+    }
+
+    @Test
+    void typeBudgetAppliesToUnannotatedMethods() throws Exception {
+        SqlRequestStats stats = begin();
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new BudgetedController(), "list"));
+        
+        assertThat(stats.getMaxQueries()).isEqualTo(3);
+    }
+
+    @Test
+    void defaultBudgetAppliesWithoutAnnotation() throws Exception {
+        properties.setDefaultMaxQueries(7);
+        SqlRequestStats stats = begin();
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new PlainController(), "list"));
+        
+        assertThat(stats.getMaxQueries()).isEqualTo(7);
+    }
+
+    @Test
+    void enforceModeRejectsTheStatementOverBudget() throws Exception {
+        properties.setMode(SqlInspectionProperties.Mode.ENFORCE);
+        SqlRequestStats stats = begin();
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new BudgetedController(), "single"));
+        
+        stats.beforeStatement();
+        stats.afterStatement("SELECT 1", "", 1);
+        
+        assertThatThrownBy(stats::beforeStatement).isInstanceOf(SqlBudgetExceededException.class);
+    }
+
+    @Test
+    void logModeOnlyFlagsTheRequest() throws Exception {
+        SqlRequestStats stats = begin();
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new BudgetedController(), "single"));
+        
+        for (int i = 0; i < 2; i++) {
+            stats.beforeStatement();
+            stats.afterStatement("SELECT 1", "", 1);
+        }
+        
+        assertThat(stats.isOverBudget()).isTrue();
+    }
+
+    @Test
+    void statementsBeforeTheHandlerCountAgainstItsBudget() throws Exception {
+        SqlRequestStats stats = begin();
+        // e.g. a filter resolving the caller
+        stats.beforeStatement();
+        stats.afterStatement("SELECT 1", "", 1);
+        
+        new SqlBudgetInterceptor(properties).preHandle(request, response, handler(new BudgetedController(), "single"));
+        stats.beforeStatement();
+        stats.afterStatement("SELECT 2", "", 1);
+        
+        assertThat(stats.isOverBudget()).isTrue();
+    }
+
+    @Test
+    void withoutStatsTheHandlerRunsUntracked() throws Exception {
+        assertThat(new SqlBudgetInterceptor(properties)
+                .preHandle(request, response, handler(new BudgetedController(), "single"))).isTrue();
+        
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+    
+    private SqlRequestStats begin() {
+        return SqlRequestStats.begin("GET /tasks/batch", properties.getDefaultMaxQueries(),
+                properties.getMode() == SqlInspectionProperties.Mode.ENFORCE, properties.getSampledStatements());
+    }
+    
+    private static HandlerMethod handler(Object controller, String method) throws NoSuchMethodException {
+        return new HandlerMethod(controller, controller.getClass().getDeclaredMethod(method));
+    }
+
+    @SqlBudget(maxQueries = 3)
+    static class BudgetedController {
+
+        @SqlBudget(maxQueries = 1)
+        void single() {
+        }
+
+        void list() {
+        }
+    }
+
+    static class PlainController {
+
+        void list() {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.projectmanagement.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SqlRequestFilterTest {
+
+    private final SqlInspectionProperties properties = new SqlInspectionProperties();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/batch");
+
+    @Test
+    void statsCoverTheWholeFilterChain() throws Exception {
+        AtomicReference<SqlRequestStats> seen = new AtomicReference<>();
+        
+        new SqlRequestFilter(properties).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            // A later filter and the handler run SQL on the same thread
+            SqlRequestStats.current().afterStatement("SELECT 1", "", 1);
+            SqlRequestStats.current().afterStatement("SELECT 2", "", 1);
+            seen.set(SqlRequestStats.current());
+        });
+        
+        assertThat(seen.get().getRequest()).isEqualTo("GET /tasks/batch");
+        assertThat(seen.get().getQueryCount()).isEqualTo(2);
+        assertThat(seen.get().getMaxQueries()).isEqualTo(properties.getDefaultMaxQueries());
+    }
+
+    @Test
+    void completionClearsTheThread() throws Exception {
+        new SqlRequestFilter(properties).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+        
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    void startingAsyncHandlingClearsTheThread() throws Exception {
+        request.setAsyncSupported(true);
+        
+        new SqlRequestFilter(properties).doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    void failuresClearTheThread() {
+        try {
+            new SqlRequestFilter(properties).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (Exception expected) {
+            // propagated to the caller as usual
+        }
+        
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+}
@@ -0,0 +1,44 @@
+package com.projectmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class DataSourceConfigTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.hikari.connection-timeout", "1500")
+            .withProperty("spring.datasource.hikari.leak-detection-threshold", "20000")
+            .withProperty("spring.datasource.hikari.maximum-pool-size", "30");
+
+    @Test
+    void replicaPoolsUseTheSharedHikariSettings() {
+        try (HikariDataSource replica = DataSourceConfig.replicaDataSource(0, pool(null), environment)) {
+            assertThat(replica.getConnectionTimeout()).isEqualTo(1500);
+            assertThat(replica.getLeakDetectionThreshold()).isEqualTo(20000);
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(30);
+            assertThat(replica.getPoolName()).isEqualTo("replica-0");
+            assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:postgresql://replica:5432/project_management");
+            assertThat(replica.isReadOnly()).isTrue();
+        }
+    }
+
+    @Test
+    void poolSizeCanBeOverriddenPerReplica() {
+        try (HikariDataSource replica = DataSourceConfig.replicaDataSource(1, pool(5), environment)) {
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(5);
+            assertThat(replica.getConnectionTimeout()).isEqualTo(1500);
+        }
+    }
+
+    private static ReplicaDataSourceProperties.Pool pool(Integer maximumPoolSize) {
+        ReplicaDataSourceProperties.Pool pool = new ReplicaDataSourceProperties.Pool();
+        pool.setUrl("jdbc:postgresql://replica:5432/project_management");
+        pool.setUsername("reader");
+        pool.setPassword("secret");
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
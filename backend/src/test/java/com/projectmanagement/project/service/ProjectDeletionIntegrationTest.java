@@ -0,0 +1,106 @@
+package com.projectmanagement.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.project.repository.ProjectDeletionRepository;
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Small projects are deleted in the request, large ones in chunks by {@link ProjectDeletionJob}.
+ * Either way subtasks living in other projects survive without their parent.
+ */
+class ProjectDeletionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectDeletionRepository deletionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String pmo;
+    private long projectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+    }
+
+    @Test
+    void chunkedDeletionRemovesTaskTreesAndArchive() {
+        long root = task(projectId, null);
+        long child = task(projectId, root);
+        task(projectId, child);
+        task(projectId, child);
+        task(projectId, null);
+        insertArchivedTask(projectId, null);
+        insertArchivedTask(projectId, null);
+        insertArchivedTask(projectId, null);
+        long foreignChild = task(otherProjectId, child);
+
+        // Chunks smaller than the tree so the leaves-first order is needed to satisfy the parent key
+        new ProjectDeletionJob(deletionRepository, eventPublisher, transactionTemplate, 2).deleteInChunks(projectId);
+
+        assertThat(count("SELECT count(*) FROM projects WHERE id = ?", projectId)).isZero();
+        assertThat(count("SELECT count(*) FROM tasks WHERE project_id = ?", projectId)).isZero();
+        assertThat(count("SELECT count(*) FROM tasks_archive WHERE project_id = ?", projectId)).isZero();
+        assertThat(parentOf(foreignChild)).isNull();
+    }
+
+    @Test
+    void smallProjectIsDeletedInTheRequest() throws Exception {
+        long root = task(projectId, null);
+        task(projectId, root);
+        insertArchivedTask(projectId, null);
+        long foreignChild = task(otherProjectId, root);
+
+        mockMvc.perform(delete("/projects/{id}", projectId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNoContent());
+
+        assertThat(count("SELECT count(*) FROM projects WHERE id = ?", projectId)).isZero();
+        assertThat(count("SELECT count(*) FROM tasks WHERE project_id = ?", projectId)).isZero();
+        assertThat(count("SELECT count(*) FROM tasks_archive WHERE project_id = ?", projectId)).isZero();
+        assertThat(parentOf(foreignChild)).isNull();
+    }
+
+    @Test
+    void deletingAMissingProjectIsNotFound() throws Exception {
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", otherProjectId);
+
+        mockMvc.perform(delete("/projects/{id}", otherProjectId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNotFound());
+    }
+
+    private long task(long project, Long parentId) {
+        long taskId = insertTask(project, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(5));
+        if (parentId != null) {
+            jdbcTemplate.update("UPDATE tasks SET parent_task_id = ? WHERE id = ?", parentId, taskId);
+        }
+        return taskId;
+    }
+
+    private int count(String sql, long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private Long parentOf(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT parent_task_id FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+}
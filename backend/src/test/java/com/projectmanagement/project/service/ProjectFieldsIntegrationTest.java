@@ -0,0 +1,86 @@
+package com.projectmanagement.project.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * GET /projects?fields= returns only the requested attributes and applies the same visibility
+ * rules as the full project endpoints.
+ */
+class ProjectFieldsIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String developer;
+    private long developerId;
+    private long managerId;
+    private long memberProjectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        developer = unique("dev");
+        developerId = insertUser(developer, UserRole.DEVELOPER);
+        managerId = insertUser(unique("pm"), UserRole.PROJECT_MANAGER);
+        memberProjectId = insertProject(unique("member"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+        addTeamMember(memberProjectId, developerId);
+        membershipIndex.load();
+    }
+
+    @Test
+    void singleProjectHasOnlyTheRequestedFields() throws Exception {
+        mockMvc.perform(get("/projects/{id}", memberProjectId).param("fields", "id", "projectManagerId")
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.id").value((int) memberProjectId))
+                .andExpect(jsonPath("$.projectManagerId").value((int) managerId))
+                .andExpect(jsonPath("$.name").doesNotExist());
+    }
+
+    @Test
+    void listIsLimitedToVisibleProjects() throws Exception {
+        mockMvc.perform(get("/projects").param("fields", "id", "name")
+                        .param("projectManagerId", String.valueOf(managerId))
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains((int) memberProjectId)))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    void filtersByTeamMember() throws Exception {
+        String pmo = unique("pmo");
+        insertUser(pmo, UserRole.PMO);
+
+        mockMvc.perform(get("/projects").param("fields", "id")
+                        .param("teamMemberId", String.valueOf(developerId))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains((int) memberProjectId)));
+    }
+
+    @Test
+    void hiddenProjectIsForbidden() throws Exception {
+        mockMvc.perform(get("/projects/{id}", otherProjectId).param("fields", "id")
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void rejectsUnknownFields() throws Exception {
+        mockMvc.perform(get("/projects/{id}", memberProjectId).param("fields", "id", "budget")
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isBadRequest());
+    }
+}
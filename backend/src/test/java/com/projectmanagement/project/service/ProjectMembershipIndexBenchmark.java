@@ -0,0 +1,116 @@
+package com.projectmanagement.project.service;
+
+import com.projectmanagement.project.repository.ProjectMembershipRepository;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Visibility checks and listing filters against {@link ProjectMembershipIndex} with 100k users and
+ * 20k projects, next to the same membership held as a HashMap of HashSets. Memberships per user
+ * vary; every project also has a manager. The load benchmark is a single full (re)load.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProjectMembershipIndexBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int PROJECTS = 20_000;
+    private static final int QUERIES = 4096;
+
+    @Param({"5", "50"})
+    private int projectsPerUser;
+
+    private long[] membershipUsers;
+    private long[] membershipProjects;
+    private ProjectMembershipIndex index;
+    private Map<Long, Set<Long>> hashIndex;
+    private long[] queryUsers;
+    private long[] queryProjects;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int memberships = USERS * projectsPerUser / 2 + PROJECTS;
+        membershipUsers = new long[memberships];
+        membershipProjects = new long[memberships];
+        for (int i = 0; i < memberships; i++) {
+            // Managers first, then team members drawn from half the users; the other half belong nowhere
+            membershipUsers[i] = i < PROJECTS ? 1 + random.nextInt(USERS / 100) : 1 + random.nextInt(USERS / 2);
+            membershipProjects[i] = i < PROJECTS ? 1 + i : 1 + random.nextInt(PROJECTS);
+        }
+        
+        index = newIndex();
+        index.load();
+        hashIndex = new HashMap<>();
+        for (int i = 0; i < memberships; i++) {
+            hashIndex.computeIfAbsent(membershipUsers[i], id -> new HashSet<>()).add(membershipProjects[i]);
+        }
+        
+        queryUsers = new long[QUERIES];
+        queryProjects = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryUsers[i] = 1 + random.nextInt(USERS);
+            queryProjects[i] = 1 + random.nextInt(PROJECTS);
+        }
+    }
+
+    @Benchmark
+    public boolean isMember() {
+        int i = next++ & (QUERIES - 1);
+        return index.isMember(queryUsers[i], queryProjects[i]);
+    }
+
+    @Benchmark
+    public boolean isMemberHashSet() {
+        int i = next++ & (QUERIES - 1);
+        return hashIndex.getOrDefault(queryUsers[i], Set.of()).contains(queryProjects[i]);
+    }
+
+    @Benchmark
+    public long[] projectIdsOf() {
+        return index.projectIdsOf(queryUsers[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public ProjectMembershipIndex load() {
+        ProjectMembershipIndex loaded = newIndex();
+        loaded.load();
+        return loaded;
+    }
+    
+    private ProjectMembershipIndex newIndex() {
+        ProjectMembershipRepository repository = new ProjectMembershipRepository(null) {
+            @Override
+            public void forEachMembership(BiConsumer<Long, Long> consumer) {
+                for (int i = 0; i < membershipUsers.length; i++) {
+                    consumer.accept(membershipUsers[i], membershipProjects[i]);
+                }
+            }
+        };
+        return new ProjectMembershipIndex(repository, null);
+    }
+}
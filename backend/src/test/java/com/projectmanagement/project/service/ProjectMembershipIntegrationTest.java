@@ -0,0 +1,128 @@
+package com.projectmanagement.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+/**
+ * Membership changes are single statements that report only the users whose membership actually
+ * changed, so repeating a request is harmless.
+ */
+class ProjectMembershipIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String pmo;
+    private long managerId;
+    private long projectId;
+    private long member;
+    private long newcomer;
+    private long unknown;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+        member = insertUser(unique("member"), UserRole.DEVELOPER);
+        newcomer = insertUser(unique("newcomer"), UserRole.DEVELOPER);
+        unknown = insertUser(unique("gone"), UserRole.DEVELOPER);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", unknown);
+        addTeamMember(projectId, member);
+        membershipIndex.load();
+    }
+
+    @Test
+    void addingTwiceChangesNothingTheSecondTime() throws Exception {
+        mockMvc.perform(put("/projects/{projectId}/members/{userId}", projectId, newcomer).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").value(contains((int) newcomer)));
+
+        mockMvc.perform(put("/projects/{projectId}/members/{userId}", projectId, newcomer).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").isEmpty())
+                .andExpect(jsonPath("$.unknownUserIds").isEmpty());
+
+        assertThat(teamRows(newcomer)).isEqualTo(1);
+        assertThat(membershipIndex.isMember(newcomer, projectId)).isTrue();
+    }
+
+    @Test
+    void bulkAddReportsNewAndUnknownUsers() throws Exception {
+        mockMvc.perform(post("/projects/{projectId}/members", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(userIds(member, newcomer, unknown, newcomer))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").value(contains((int) newcomer)))
+                .andExpect(jsonPath("$.unknownUserIds").value(contains((int) unknown)));
+
+        assertThat(teamRows(member)).isEqualTo(1);
+        assertThat(teamRows(newcomer)).isEqualTo(1);
+        assertThat(teamRows(unknown)).isZero();
+        assertThat(membershipIndex.isMember(newcomer, projectId)).isTrue();
+    }
+
+    @Test
+    void removingTwiceChangesNothingTheSecondTime() throws Exception {
+        mockMvc.perform(delete("/projects/{projectId}/members/{userId}", projectId, member).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").value(contains((int) member)));
+
+        mockMvc.perform(delete("/projects/{projectId}/members/{userId}", projectId, member).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").isEmpty());
+
+        assertThat(teamRows(member)).isZero();
+        assertThat(membershipIndex.isMember(member, projectId)).isFalse();
+    }
+
+    @Test
+    void bulkRemoveKeepsTheManagerIndexed() throws Exception {
+        addTeamMember(projectId, managerId);
+
+        mockMvc.perform(post("/projects/{projectId}/members/remove", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(userIds(member, managerId, newcomer, unknown))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changedUserIds").value(contains((int) member, (int) managerId)))
+                .andExpect(jsonPath("$.unknownUserIds").value(contains((int) unknown)));
+
+        assertThat(membershipIndex.isMember(member, projectId)).isFalse();
+        assertThat(membershipIndex.isMember(managerId, projectId)).isTrue();
+    }
+
+    @Test
+    void unknownProjectIsNotFound() throws Exception {
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+
+        mockMvc.perform(put("/projects/{projectId}/members/{userId}", projectId, newcomer).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNotFound());
+    }
+
+    private int teamRows(long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM project_team WHERE project_id = ? AND user_id = ?", Integer.class, projectId, userId);
+    }
+
+    private static String userIds(long... ids) {
+        StringBuilder json = new StringBuilder("{\"userIds\":[");
+        for (int i = 0; i < ids.length; i++) {
+            json.append(i > 0 ? "," : "").append(ids[i]);
+        }
+        return json.append("]}").toString();
+    }
+}
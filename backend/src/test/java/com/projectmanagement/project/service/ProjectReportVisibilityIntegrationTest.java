@@ -0,0 +1,67 @@
+package com.projectmanagement.project.service;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Schedule and burndown are per-project reports and follow the same visibility rules as the
+ * project's tasks.
+ */
+class ProjectReportVisibilityIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String developer;
+    private long memberProjectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        developer = unique("dev");
+        long developerId = insertUser(developer, UserRole.DEVELOPER);
+        long managerId = insertUser(unique("pm"), UserRole.PROJECT_MANAGER);
+        memberProjectId = insertProject(unique("member"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+        addTeamMember(memberProjectId, developerId);
+        membershipIndex.load();
+        insertTask(memberProjectId, developerId, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(3));
+        insertTask(otherProjectId, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(3));
+    }
+
+    @Test
+    void memberCanReadScheduleAndBurndown() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/schedule", memberProjectId).with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/projects/{projectId}/burndown", memberProjectId).with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void nonMemberIsForbidden() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/schedule", otherProjectId).with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/projects/{projectId}/burndown", otherProjectId).with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unrestrictedRolesSeeEveryProject() throws Exception {
+        String pmo = unique("pmo");
+        insertUser(pmo, UserRole.PMO);
+
+        mockMvc.perform(get("/projects/{projectId}/schedule", otherProjectId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/projects/{projectId}/burndown", otherProjectId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,92 @@
+package com.projectmanagement.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.projectmanagement.project.repository.ProjectMembershipRepository;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.AuthenticatedUser;
+import com.projectmanagement.user.service.CurrentUserService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ProjectVisibilityServiceImplTest {
+
+    private final CurrentUserService currentUserService = mock(CurrentUserService.class);
+    private final ProjectMembershipIndex membershipIndex = mock(ProjectMembershipIndex.class);
+    private final ProjectMembershipRepository membershipRepository = mock(ProjectMembershipRepository.class);
+    private final ProjectVisibilityServiceImpl service =
+            new ProjectVisibilityServiceImpl(currentUserService, membershipIndex, membershipRepository);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void managersSeeEverythingWithoutALocalUser() {
+        authenticate("ROLE_PROJECT_MANAGER");
+        
+        assertThat(service.isRestricted()).isFalse();
+        assertThat(service.canView(7L)).isTrue();
+        verifyNoInteractions(currentUserService);
+    }
+
+    @Test
+    void unresolvedDeveloperSeesNothing() {
+        authenticate("ROLE_DEVELOPER");
+        when(currentUserService.getCurrentUser()).thenReturn(Optional.empty());
+        
+        assertThat(service.isRestricted()).isTrue();
+        assertThat(service.canView(7L)).isFalse();
+        assertThat(service.visibleProjectIds()).isEmpty();
+    }
+
+    @Test
+    void tokenWithoutRolesIsRestricted() {
+        authenticate();
+        when(currentUserService.getCurrentUser()).thenReturn(Optional.of(user(3L, UserRole.PMO)));
+        when(membershipIndex.isLoaded()).thenReturn(true);
+        
+        assertThat(service.isRestricted()).isTrue();
+        assertThat(service.canView(7L)).isFalse();
+    }
+
+    @Test
+    void fallsBackToManagedAndTeamProjectsUntilTheIndexIsLoaded() {
+        authenticate("ROLE_DEVELOPER");
+        when(currentUserService.getCurrentUser()).thenReturn(Optional.of(user(3L, UserRole.DEVELOPER)));
+        when(membershipRepository.findProjectIds(3L)).thenReturn(List.of(7L, 9L));
+        
+        assertThat(service.canView(7L)).isTrue();
+        assertThat(service.canView(8L)).isFalse();
+        assertThat(service.visibleProjectIds()).containsExactlyInAnyOrder(7L, 9L);
+    }
+
+    @Test
+    void explicitUserIsCheckedByRoleAndMembership() {
+        when(membershipIndex.isLoaded()).thenReturn(true);
+        when(membershipIndex.isMember(3L, 7L)).thenReturn(true);
+        AuthenticatedUser inactiveManager = user(4L, UserRole.PROJECT_MANAGER);
+        inactiveManager.setActive(false);
+        
+        assertThat(service.canView(user(3L, UserRole.DEVELOPER), 7L)).isTrue();
+        assertThat(service.canView(user(3L, UserRole.DEVELOPER), 8L)).isFalse();
+        assertThat(service.canView(user(4L, UserRole.PROJECT_MANAGER), 8L)).isTrue();
+        assertThat(service.canView(inactiveManager, 8L)).isFalse();
+    }
+    
+    private static void authenticate(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, authorities));
+    }
+    
+    private static AuthenticatedUser user(Long id, UserRole role) {
+        return AuthenticatedUser.builder().id(id).username("user").role(role).active(true).build();
+    }
+}
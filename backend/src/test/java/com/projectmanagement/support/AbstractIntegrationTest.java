@@ -0,0 +1,99 @@
+package com.projectmanagement.support;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the whole application against a Postgres container migrated by Flyway and an embedded
+ * Kafka broker. The container is started once and shared by every subclass, like the cached
+ * application context, so tests create their own rows with unique names instead of cleaning up.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@EmbeddedKafka(partitions = 1, bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    protected static String unique(String prefix) {
+        return prefix + "-" + SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Authenticates the request as the given local user, the way a Keycloak token would.
+     */
+    protected static RequestPostProcessor as(String username, UserRole role) {
+        return jwt()
+                .jwt(token -> token.subject(username).claim("preferred_username", username))
+                .authorities(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    protected long insertUser(String username, UserRole role) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, first_name, last_name, email, role, active, keycloak_id, created_at, updated_at) "
+                + "VALUES (?, 'Test', 'User', ?, ?, true, ?, now(), now()) RETURNING id",
+                Long.class, username, username + "@example.com", role.name(), username);
+    }
+
+    protected long insertProject(String name, Long managerId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, start_date, status, project_manager_id, created_at, updated_at) "
+                + "VALUES (?, current_date, 'IN_PROGRESS', ?, now(), now()) RETURNING id",
+                Long.class, name, managerId);
+    }
+
+    protected void addTeamMember(long projectId, long userId) {
+        jdbcTemplate.update("INSERT INTO project_team (project_id, user_id) VALUES (?, ?)", projectId, userId);
+    }
+
+    protected long insertTask(long projectId, Long assigneeId, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks (title, status, priority, due_date, estimated_hours, project_id, assignee_id, "
+                + "created_at, updated_at, completed_at) "
+                + "VALUES (?, ?, ?, ?, 4, ?, ?, now(), now(), CASE WHEN ? = 'DONE' THEN now() END) RETURNING id",
+                Long.class, unique("task"), status.name(), priority.name(), dueDate, projectId, assigneeId, status.name());
+    }
+
+    protected long insertArchivedTask(long projectId, Long assigneeId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks_archive (id, title, status, priority, due_date, project_id, assignee_id, "
+                + "created_at, updated_at, completed_at, archived_at) "
+                + "VALUES (nextval('tasks_id_seq'), ?, 'DONE', 'LOW', current_date - 200, ?, ?, "
+                + "now() - interval '200 days', now() - interval '200 days', now() - interval '200 days', now()) "
+                + "RETURNING id",
+                Long.class, unique("archived"), projectId, assigneeId);
+    }
+}
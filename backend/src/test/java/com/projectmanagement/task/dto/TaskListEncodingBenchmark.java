@@ -0,0 +1,73 @@
+package com.projectmanagement.task.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and parse time of task list responses as JSON and CBOR, flat and normalized.
+ * Payload sizes are covered by TaskListEncodingSizeTest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListEncodingBenchmark {
+
+    @Param({"50", "500"})
+    private int tasks;
+
+    @Param({"false", "true"})
+    private boolean normalized;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private Object payload;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        jsonMapper = TaskListFixtures.jsonMapper();
+        cborMapper = TaskListFixtures.cborMapper();
+        payload = normalized
+                ? NormalizedTaskListDTO.from(TaskListFixtures.tasks(tasks, 20))
+                : TaskListFixtures.tasks(tasks, 20);
+        json = jsonMapper.writeValueAsBytes(payload);
+        cbor = cborMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object readJson() throws IOException {
+        return jsonMapper.readTree(json);
+    }
+
+    @Benchmark
+    public Object readCbor() throws IOException {
+        return cborMapper.readTree(cbor);
+    }
+}
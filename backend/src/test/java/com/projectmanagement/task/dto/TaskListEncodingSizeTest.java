@@ -0,0 +1,40 @@
+package com.projectmanagement.task.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskListEncodingSizeTest {
+
+    private final ObjectMapper jsonMapper = TaskListFixtures.jsonMapper();
+    private final ObjectMapper cborMapper = TaskListFixtures.cborMapper();
+
+    @Test
+    void cborIsSmallerThanJson() throws Exception {
+        List<TaskDTO> tasks = TaskListFixtures.tasks(500, 20);
+        
+        int json = jsonMapper.writeValueAsBytes(tasks).length;
+        int cbor = cborMapper.writeValueAsBytes(tasks).length;
+        
+        assertThat(cbor).isLessThan(json * 9 / 10);
+    }
+
+    @Test
+    void normalizedListIsSmallerThanFlatList() throws Exception {
+        int flat = jsonMapper.writeValueAsBytes(TaskListFixtures.tasks(500, 20)).length;
+        int normalized = jsonMapper.writeValueAsBytes(NormalizedTaskListDTO.from(TaskListFixtures.tasks(500, 20))).length;
+        
+        assertThat(normalized).isLessThan(flat * 3 / 4);
+    }
+
+    @Test
+    void cborRoundTripsNormalizedList() throws Exception {
+        NormalizedTaskListDTO list = NormalizedTaskListDTO.from(TaskListFixtures.tasks(50, 5));
+        
+        NormalizedTaskListDTO decoded = cborMapper.readValue(cborMapper.writeValueAsBytes(list), NormalizedTaskListDTO.class);
+        
+        assertThat(decoded).isEqualTo(list);
+    }
+}
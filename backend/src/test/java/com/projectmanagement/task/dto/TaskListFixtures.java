@@ -0,0 +1,76 @@
+package com.projectmanagement.task.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.UserDTO;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Deterministic task list payloads shaped like a mobile list response, and the JSON and CBOR
+ * mappers configured the way Spring Boot and WebConfig build them.
+ */
+final class TaskListFixtures {
+
+    private TaskListFixtures() {
+    }
+
+    static List<TaskDTO> tasks(int count, int assignees) {
+        Random random = new Random(42);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 15, 9, 30);
+        List<TaskDTO> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long assigneeId = 1 + random.nextInt(assignees);
+            tasks.add(TaskDTO.builder()
+                    .id(1000L + i)
+                    .title("Implement feature " + i + " for the mobile client")
+                    .description(random.nextBoolean() ? "Acceptance criteria are tracked in the linked issue " + i : null)
+                    .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                    .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                    .dueDate(LocalDate.of(2024, 3, 1).plusDays(random.nextInt(90)))
+                    .estimatedHours(1 + random.nextInt(40))
+                    .projectId(7L)
+                    .assigneeId(assigneeId)
+                    .assignee(user(assigneeId))
+                    .createdAt(created.plusMinutes(i))
+                    .updatedAt(created.plusMinutes(i + random.nextInt(10_000)))
+                    .build());
+        }
+        return tasks;
+    }
+
+    static ObjectMapper jsonMapper() {
+        return builder().build();
+    }
+
+    static ObjectMapper cborMapper() {
+        return builder().factory(new CBORFactory()).build();
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static UserDTO user(long id) {
+        return UserDTO.builder()
+                .id(id)
+                .username("developer" + id)
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("developer" + id + "@example.com")
+                .role(UserRole.DEVELOPER)
+                .active(true)
+                .createdAt(LocalDateTime.of(2023, 6, 1, 8, 0))
+                .updatedAt(LocalDateTime.of(2023, 6, 1, 8, 0))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.projectmanagement.task.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-event encode and decode time of the binary task event codec against the JSON it replaced.
+ * Run with -prof gc for allocation per event; payload sizes are covered by TaskEventCodecSizeTest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskEventCodecBenchmark {
+
+    private static final int EVENTS = 1000;
+
+    private TaskEventCodec codec;
+    private ObjectMapper jsonMapper;
+    private List<TaskEventMessage> messages;
+    private byte[][] binary;
+    private byte[][] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        codec = TaskEventFixtures.codec();
+        jsonMapper = TaskEventFixtures.jsonMapper();
+        messages = TaskEventFixtures.messages(EVENTS);
+        binary = new byte[EVENTS][];
+        json = new byte[EVENTS][];
+        for (int i = 0; i < EVENTS; i++) {
+            binary[i] = codec.encode(messages.get(i));
+            json[i] = jsonMapper.writeValueAsBytes(messages.get(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void encodeBinary(Blackhole blackhole) {
+        for (TaskEventMessage message : messages) {
+            blackhole.consume(codec.encode(message));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void encodeJson(Blackhole blackhole) throws JsonProcessingException {
+        for (TaskEventMessage message : messages) {
+            blackhole.consume(jsonMapper.writeValueAsBytes(message));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeBinary(Blackhole blackhole) {
+        for (byte[] payload : binary) {
+            blackhole.consume(codec.decode(payload));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeJson(Blackhole blackhole) throws IOException {
+        for (byte[] payload : json) {
+            blackhole.consume(jsonMapper.readTree(payload));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.projectmanagement.task.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskEventCodecSizeTest {
+
+    private final TaskEventCodec codec = TaskEventFixtures.codec();
+    private final ObjectMapper jsonMapper = TaskEventFixtures.jsonMapper();
+
+    @Test
+    void binaryEventsAreLessThanHalfTheSizeOfJson() throws Exception {
+        long json = 0;
+        long binary = 0;
+        for (TaskEventMessage message : TaskEventFixtures.messages(1000)) {
+            json += jsonMapper.writeValueAsBytes(message).length;
+            binary += codec.encode(message).length;
+        }
+        
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+    @Test
+    void binaryEventsRoundTrip() {
+        List<TaskEventMessage> messages = TaskEventFixtures.messages(100);
+        
+        assertThat(messages).allSatisfy(message -> assertThat(codec.decode(codec.encode(message))).isEqualTo(message));
+    }
+}
@@ -0,0 +1,91 @@
+package com.projectmanagement.task.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projectmanagement.common.kafka.codec.EventSchemaRegistry;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Event streams as tasks produce them: a CREATED event in the backlog, then UPDATED events while
+ * the task moves across the board, some of them handing it to another assignee. Most events on the
+ * topic are such updates, which carry the previous status and assignee as well.
+ */
+final class TaskEventFixtures {
+
+    private static final String[] TITLES = {
+            "Fix login redirect loop",
+            "Add CSV export to the invoice list",
+            "Upgrade the Postgres JDBC driver",
+            "Review onboarding copy with design",
+            "Investigate slow dashboard query",
+    };
+
+    private static final TaskStatus[] WORKFLOW = {
+            TaskStatus.BACKLOG, TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.REVIEW, TaskStatus.DONE,
+    };
+
+    private TaskEventFixtures() {
+    }
+
+    static List<TaskEventMessage> messages(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        Instant clock = Instant.parse("2024-02-05T08:00:00Z");
+        List<TaskEventMessage> messages = new ArrayList<>(count);
+        long taskId = 52_000;
+        while (messages.size() < count) {
+            taskId++;
+            long projectId = 1 + random.nextInt(200);
+            TaskEventMessage task = TaskEventMessage.builder()
+                    .changeType(TaskEventMessage.ChangeType.CREATED)
+                    .taskId(taskId)
+                    .title(TITLES[random.nextInt(TITLES.length)] + " (#" + taskId + ")")
+                    .projectId(projectId)
+                    .assigneeId(1 + random.nextLong(50))
+                    .status(WORKFLOW[0])
+                    .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                    .dueDate(LocalDate.of(2024, 3, 1).plusDays(random.nextInt(90)))
+                    .estimatedHours(1 + random.nextInt(40))
+                    .occurredAt(clock)
+                    .build();
+            messages.add(task);
+            
+            for (int step = 1; step < WORKFLOW.length && messages.size() < count && random.nextInt(5) > 0; step++) {
+                clock = clock.plusSeconds(60 + random.nextInt(3600));
+                Long assigneeId = random.nextInt(4) == 0 ? 1 + random.nextLong(50) : task.getAssigneeId();
+                task = TaskEventMessage.builder()
+                        .changeType(TaskEventMessage.ChangeType.UPDATED)
+                        .taskId(task.getTaskId())
+                        .title(task.getTitle())
+                        .projectId(task.getProjectId())
+                        .assigneeId(assigneeId)
+                        .status(WORKFLOW[step])
+                        .priority(task.getPriority())
+                        .dueDate(task.getDueDate())
+                        .estimatedHours(task.getEstimatedHours())
+                        .occurredAt(clock)
+                        .previousStatus(task.getStatus())
+                        .previousAssigneeId(task.getAssigneeId())
+                        .build();
+                messages.add(task);
+            }
+        }
+        return messages;
+    }
+
+    static TaskEventCodec codec() {
+        return new TaskEventCodec(new EventSchemaRegistry(new ObjectMapper()));
+    }
+
+    static ObjectMapper jsonMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.projectmanagement.task.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.common.kafka.codec.EventReader;
+import com.projectmanagement.common.kafka.codec.EventSchema;
+import com.projectmanagement.common.kafka.codec.EventSchemaRegistry;
+import com.projectmanagement.common.kafka.codec.EventWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Producers and consumers are deployed independently, so v1 and v2 task events coexist on the
+ * topic. v2 added the title (tag 12); everything else kept its tag.
+ */
+class TaskEventSchemaCompatibilityTest {
+
+    private final EventSchemaRegistry registry = new EventSchemaRegistry(new ObjectMapper());
+    private final TaskEventCodec codec = new TaskEventCodec(registry);
+    private final EventSchema v1 = registry.get(TaskEventCodec.SUBJECT, 1);
+
+    @Test
+    void currentCodecWritesV2() {
+        TaskEventMessage message = TaskEventFixtures.messages(1).get(0);
+
+        assertThat(registry.latest(TaskEventCodec.SUBJECT).version()).isEqualTo(2);
+        assertThat(registry.decode(TaskEventCodec.SUBJECT, codec.encode(message)))
+                .containsEntry("title", message.getTitle());
+    }
+
+    @Test
+    void v2ReadsEventsWrittenByV1() {
+        byte[] payload = EventWriter.forCurrentThread()
+                .header(1)
+                .writeLong(1, (long) symbol("changeType", "UPDATED"))
+                .writeLong(2, 42L)
+                .writeLong(3, 7L)
+                .writeLong(4, 3L)
+                .writeLong(5, (long) symbol("status", "REVIEW"))
+                .writeLong(6, (long) symbol("priority", "HIGH"))
+                .writeLong(7, LocalDate.of(2024, 3, 1).toEpochDay())
+                .writeLong(8, 16L)
+                .writeLong(9, Instant.parse("2024-02-05T08:00:00Z").toEpochMilli())
+                .writeLong(10, (long) symbol("previousStatus", "IN_PROGRESS"))
+                .writeLong(11, 5L)
+                .toByteArray();
+
+        TaskEventMessage message = codec.decode(payload);
+
+        assertThat(message.getTitle()).isNull();
+        assertThat(message.getChangeType()).isEqualTo(TaskEventMessage.ChangeType.UPDATED);
+        assertThat(message.getTaskId()).isEqualTo(42L);
+        assertThat(message.getProjectId()).isEqualTo(7L);
+        assertThat(message.getAssigneeId()).isEqualTo(3L);
+        assertThat(message.getStatus().name()).isEqualTo("REVIEW");
+        assertThat(message.getPriority().name()).isEqualTo("HIGH");
+        assertThat(message.getDueDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(message.getEstimatedHours()).isEqualTo(16);
+        assertThat(message.getOccurredAt()).isEqualTo(Instant.parse("2024-02-05T08:00:00Z"));
+        assertThat(message.getPreviousStatus().name()).isEqualTo("IN_PROGRESS");
+        assertThat(message.getPreviousAssigneeId()).isEqualTo(5L);
+    }
+
+    @Test
+    void v1ReadsEventsWrittenByV2() {
+        for (TaskEventMessage message : TaskEventFixtures.messages(200)) {
+            Map<String, Object> read = readAsV1(codec.encode(message));
+
+            assertThat(read).doesNotContainKey("title");
+            assertThat(read.get("taskId")).isEqualTo(message.getTaskId());
+            assertThat(read.get("assigneeId")).isEqualTo(message.getAssigneeId());
+            assertThat(read.get("status")).isEqualTo(message.getStatus().name());
+            assertThat(read.get("occurredAt")).isEqualTo(message.getOccurredAt().toEpochMilli());
+            assertThat(read.get("previousAssigneeId")).isEqualTo(message.getPreviousAssigneeId());
+        }
+    }
+
+    @Test
+    void symbolsAddedByANewerProducerDecodeAsNull() {
+        byte[] payload = EventWriter.forCurrentThread()
+                .header(3)
+                .writeLong(2, 42L)
+                .writeLong(5, 99L)
+                .writeString(40, "field from the future")
+                .writeLong(6, (long) symbol("priority", "LOW"))
+                .toByteArray();
+
+        TaskEventMessage message = codec.decode(payload);
+
+        assertThat(message.getTaskId()).isEqualTo(42L);
+        assertThat(message.getStatus()).isNull();
+        assertThat(message.getPriority().name()).isEqualTo("LOW");
+    }
+
+    // What a consumer built against v1 sees: fields by their v1 tags, everything newer skipped
+    private Map<String, Object> readAsV1(byte[] payload) {
+        EventReader reader = new EventReader(payload);
+        assertThat(reader.readHeader()).isEqualTo(2);
+        Map<String, Object> values = new LinkedHashMap<>();
+        while (reader.nextField()) {
+            EventSchema.Field field = v1.field(reader.tag()).orElse(null);
+            if (field == null) {
+                reader.skipField();
+            } else if (field.type() == EventSchema.FieldType.ENUM) {
+                values.put(field.name(), field.symbols().get((int) reader.readLong()));
+            } else {
+                values.put(field.name(), reader.readLong());
+            }
+        }
+        return values;
+    }
+
+    private int symbol(String field, String symbol) {
+        return v1.requireField(field).symbolIndex(symbol);
+    }
+}
@@ -0,0 +1,136 @@
+package com.projectmanagement.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Checks with EXPLAIN that the filter shapes of GET /tasks and the next-tasks query are served by
+ * the composite indexes of V7 and V8, on enough rows that a sequential scan is never the cheaper
+ * plan. The statements mirror what {@link TaskSpecifications} and {@link TaskRepository} send.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskIndexUsageIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PROJECTS = 200;
+    private static final int USERS = 100;
+    private static final int TASKS = 20_000;
+
+    private long projectId;
+    private long assigneeId;
+
+    @BeforeAll
+    void loadTasks() {
+        String prefix = unique("explain");
+        jdbcTemplate.update(
+                "INSERT INTO users (username, first_name, last_name, email, role, active, keycloak_id, created_at, updated_at) "
+                + "SELECT ? || '-' || g, 'Test', 'User', ? || '-' || g || '@example.com', 'DEVELOPER', true, ? || '-' || g, "
+                + "now(), now() FROM generate_series(1, ?) g",
+                prefix, prefix, prefix, USERS);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE username LIKE ? ORDER BY id", Long.class, prefix + "-%");
+        jdbcTemplate.update(
+                "INSERT INTO projects (name, start_date, status, project_manager_id, created_at, updated_at) "
+                + "SELECT ? || '-' || g, current_date, 'IN_PROGRESS', ?, now(), now() FROM generate_series(1, ?) g",
+                prefix, userIds.get(0), PROJECTS);
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT id FROM projects WHERE name LIKE ? ORDER BY id", Long.class, prefix + "-%");
+
+        // Spreads tasks evenly over projects, assignees, statuses, priorities and a year of due dates
+        jdbcTemplate.update(
+                "INSERT INTO tasks (title, status, priority, due_date, estimated_hours, project_id, assignee_id, "
+                + "created_at, updated_at) "
+                + "SELECT 'task-' || g, (ARRAY['BACKLOG','TODO','IN_PROGRESS','REVIEW','DONE','CANCELLED'])[g % 6 + 1], "
+                + "(ARRAY['LOW','MEDIUM','HIGH','CRITICAL'])[g % 4 + 1], current_date + (g * 7) % 365, 4, p.id, u.id, "
+                + "now(), now() "
+                + "FROM generate_series(1, ?) g "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM projects WHERE name LIKE ?) p "
+                + "ON p.n = g % ? "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM users WHERE username LIKE ?) u "
+                + "ON u.n = g % ?",
+                TASKS, prefix + "-%", PROJECTS, prefix + "-%", USERS);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        projectId = projectIds.get(PROJECTS / 2);
+        assigneeId = userIds.get(USERS / 2);
+    }
+
+    @Test
+    void projectAndStatusFilterUsesProjectStatusIndex() {
+        assertThat(plan("SELECT * FROM tasks WHERE project_id = " + projectId + " AND status IN ('TODO', 'IN_PROGRESS')"))
+                .contains("idx_tasks_project_status")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void projectFilterAloneUsesAProjectIndex() {
+        // idx_tasks_project_id was dropped in V7; the composite indexes lead with project_id
+        assertThat(plan("SELECT * FROM tasks WHERE project_id = " + projectId))
+                .containsAnyOf("idx_tasks_project_status", "idx_tasks_project_due")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void projectAndDueRangeFilterUsesProjectDueIndex() {
+        assertThat(plan("SELECT * FROM tasks WHERE project_id = " + projectId
+                + " AND due_date BETWEEN current_date + 10 AND current_date + 20"))
+                .contains("idx_tasks_project_due")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void assigneeStatusAndDueRangeFilterUsesAssigneeStatusDueIndex() {
+        assertThat(plan("SELECT * FROM tasks WHERE assignee_id = " + assigneeId
+                + " AND status = 'DONE' AND due_date BETWEEN current_date AND current_date + 60"))
+                .contains("idx_tasks_assignee_status_due")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void assigneeFilterAloneUsesAnAssigneeIndex() {
+        // idx_tasks_assignee_id was dropped in V7 as well
+        assertThat(plan("SELECT * FROM tasks WHERE assignee_id = " + assigneeId))
+                .contains("idx_tasks_assignee_status_due")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void nextTasksWalkTheAssigneeNextIndexWithoutSorting() {
+        assertThat(plan("SELECT t.* FROM tasks t WHERE t.assignee_id = " + assigneeId
+                + " AND t.status NOT IN ('DONE', 'CANCELLED') ORDER BY task_priority_rank(t.priority) DESC, t.due_date, t.id LIMIT 10"))
+                .contains("idx_tasks_assignee_next")
+                .doesNotContain("Sort", "Seq Scan");
+    }
+
+    @Test
+    void tasksSortByPriorityRankRatherThanName() throws Exception {
+        String pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        long project = insertProject(unique("project"), managerId);
+        LocalDate due = LocalDate.now().plusDays(3);
+        for (TaskPriority priority : List.of(TaskPriority.MEDIUM, TaskPriority.CRITICAL, TaskPriority.LOW, TaskPriority.HIGH)) {
+            insertTask(project, null, TaskStatus.TODO, priority, due);
+        }
+
+        mockMvc.perform(get("/tasks").param("projectId", String.valueOf(project)).param("sort", "priority,desc")
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].priority").value(contains("CRITICAL", "HIGH", "MEDIUM", "LOW")));
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
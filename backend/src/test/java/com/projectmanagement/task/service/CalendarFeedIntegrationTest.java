@@ -0,0 +1,102 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.projectmanagement.project.service.ProjectMembershipIndex;
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Calendar feeds are fetched without a JWT, the way calendar clients subscribe to them.
+ */
+class CalendarFeedIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String developer;
+    private long developerId;
+    private long projectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        developer = unique("dev");
+        developerId = insertUser(developer, UserRole.DEVELOPER);
+        long managerId = insertUser(unique("pm"), UserRole.PROJECT_MANAGER);
+        projectId = insertProject(unique("project"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+        addTeamMember(projectId, developerId);
+        membershipIndex.load();
+        insertTask(projectId, developerId, TaskStatus.TODO, TaskPriority.HIGH, LocalDate.now().plusDays(2));
+    }
+
+    @Test
+    void feedsAreServedForAValidTokenWithoutAJwt() throws Exception {
+        String token = createToken();
+
+        mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tasks/assignee/{assigneeId}/calendar", developerId).param("token", token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void tokenOnlyGrantsWhatItsUserCanSee() throws Exception {
+        String token = createToken();
+
+        mockMvc.perform(get("/tasks/project/{projectId}/calendar", otherProjectId).param("token", token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/tasks/assignee/{assigneeId}/calendar", developerId + 1).param("token", token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", "not-a-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void newTokenRevokesThePreviousOne() throws Exception {
+        String previous = createToken();
+        createToken();
+
+        mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", previous))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void renamingTheProjectChangesTheETag() throws Exception {
+        String token = createToken();
+        String etag = mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        jdbcTemplate.update("UPDATE projects SET name = ?, updated_at = now() + interval '1 second' WHERE id = ?",
+                unique("renamed"), projectId);
+
+        String renamed = mockMvc.perform(get("/tasks/project/{projectId}/calendar", projectId).param("token", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(renamed).isNotEqualTo(etag);
+    }
+
+    private String createToken() throws Exception {
+        String body = mockMvc.perform(post("/tasks/calendar/token").with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.token");
+    }
+}
@@ -0,0 +1,72 @@
+package com.projectmanagement.task.service;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.project.service.ProjectMembershipIndex;
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class NextTasksIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String developer;
+    private long assigneeId;
+    private long visibleProjectId;
+
+    @BeforeEach
+    void setUp() {
+        developer = unique("dev");
+        long developerId = insertUser(developer, UserRole.DEVELOPER);
+        String assignee = unique("assignee");
+        assigneeId = insertUser(assignee, UserRole.DEVELOPER);
+        long managerId = insertUser(unique("pm"), UserRole.PROJECT_MANAGER);
+        visibleProjectId = insertProject(unique("visible"), managerId);
+        long hiddenProjectId = insertProject(unique("hidden"), managerId);
+        addTeamMember(visibleProjectId, developerId);
+        addTeamMember(visibleProjectId, assigneeId);
+        addTeamMember(hiddenProjectId, assigneeId);
+        // Rows inserted behind the application's back; reload the membership index
+        membershipIndex.load();
+
+        LocalDate due = LocalDate.now().plusDays(5);
+        for (int i = 0; i < 5; i++) {
+            insertTask(hiddenProjectId, assigneeId, TaskStatus.TODO, TaskPriority.CRITICAL, due);
+            insertTask(visibleProjectId, assigneeId, TaskStatus.TODO, TaskPriority.LOW, due);
+        }
+    }
+
+    @Test
+    void limitAppliesToTasksTheCallerCanSee() throws Exception {
+        // The assignee's most urgent tasks are all in a project the caller cannot see
+        mockMvc.perform(get("/tasks/assignee/{assigneeId}/next", assigneeId).param("limit", "3")
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].projectId", everyItem(is((int) visibleProjectId))));
+    }
+
+    @Test
+    void unrestrictedCallerSeesTheMostUrgentTasks() throws Exception {
+        String pmo = unique("pmo");
+        insertUser(pmo, UserRole.PMO);
+
+        mockMvc.perform(get("/tasks/assignee/{assigneeId}/next", assigneeId).param("limit", "3")
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].priority", everyItem(is("CRITICAL"))));
+    }
+}
@@ -0,0 +1,68 @@
+package com.projectmanagement.task.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Forward/backward pass of {@link ScheduleEngine} on synthetic task hierarchies. WIDE attaches every
+ * task to a random earlier task (shallow, bushy trees), DEEP mostly to the previous one (long chains),
+ * FLAT has no subtasks at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleEngineBenchmark {
+
+    public enum Shape {
+        WIDE,
+        DEEP,
+        FLAT
+    }
+
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    @Param({"WIDE", "DEEP", "FLAT"})
+    private Shape shape;
+
+    private long[] ids;
+    private long[] parentIds;
+    private int[] durations;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new long[tasks];
+        parentIds = new long[tasks];
+        durations = new int[tasks];
+        for (int i = 0; i < tasks; i++) {
+            // Gaps in the ids, like a table shared by many projects
+            ids[i] = 1000L + i * 3L;
+            durations[i] = random.nextInt(40);
+            parentIds[i] = i == 0 ? ScheduleEngine.NO_PARENT : switch (shape) {
+                case WIDE -> random.nextInt(4) == 0 ? ScheduleEngine.NO_PARENT : ids[random.nextInt(i)];
+                case DEEP -> random.nextInt(20) == 0 ? ids[random.nextInt(i)] : ids[i - 1];
+                case FLAT -> ScheduleEngine.NO_PARENT;
+            };
+        }
+    }
+
+    @Benchmark
+    public ScheduleEngine.Result compute() {
+        return ScheduleEngine.compute(ids, parentIds, durations);
+    }
+}
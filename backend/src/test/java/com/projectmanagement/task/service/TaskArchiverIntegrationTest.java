@@ -0,0 +1,107 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TaskArchiverIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TaskArchiver archiver;
+
+    private String pmo;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+    }
+
+    @Test
+    void movesOldFinishedTasksOnly() {
+        long old = finishedDaysAgo(TaskStatus.DONE, 200);
+        long cancelled = finishedDaysAgo(TaskStatus.CANCELLED, 200);
+        long recent = finishedDaysAgo(TaskStatus.DONE, 10);
+        long open = insertTask(projectId, null, TaskStatus.IN_PROGRESS, TaskPriority.LOW, LocalDate.now());
+
+        archiver.archive();
+
+        assertThat(isLive(old)).isFalse();
+        assertThat(isArchived(old)).isTrue();
+        assertThat(isArchived(cancelled)).isTrue();
+        assertThat(isLive(recent)).isTrue();
+        assertThat(isLive(open)).isTrue();
+    }
+
+    @Test
+    void keepsParentsOfLiveSubtasks() {
+        long parent = finishedDaysAgo(TaskStatus.DONE, 200);
+        long child = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        jdbcTemplate.update("UPDATE tasks SET parent_task_id = ? WHERE id = ?", parent, child);
+
+        archiver.archive();
+
+        assertThat(isLive(parent)).isTrue();
+        assertThat(isArchived(parent)).isFalse();
+    }
+
+    @Test
+    void restoreMovesTheTaskBack() throws Exception {
+        long taskId = finishedDaysAgo(TaskStatus.DONE, 200);
+        archiver.archive();
+
+        mockMvc.perform(post("/tasks/{id}/restore", taskId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId));
+
+        assertThat(isLive(taskId)).isTrue();
+        assertThat(isArchived(taskId)).isFalse();
+    }
+
+    @Test
+    void restoreClearsReferencesToRowsThatAreGone() throws Exception {
+        long taskId = insertArchivedTask(projectId, null);
+        jdbcTemplate.update("UPDATE tasks_archive SET parent_task_id = -1 WHERE id = ?", taskId);
+
+        mockMvc.perform(post("/tasks/{id}/restore", taskId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT parent_task_id FROM tasks WHERE id = ?", Long.class, taskId))
+                .isNull();
+    }
+
+    @Test
+    void restoringAnUnknownTaskIsNotFound() throws Exception {
+        long taskId = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+
+        mockMvc.perform(post("/tasks/{id}/restore", taskId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNotFound());
+    }
+
+    private long finishedDaysAgo(TaskStatus status, int days) {
+        long taskId = insertTask(projectId, null, status, TaskPriority.LOW, LocalDate.now().minusDays(days));
+        jdbcTemplate.update("UPDATE tasks SET completed_at = now() - make_interval(days => ?), "
+                + "updated_at = now() - make_interval(days => ?) WHERE id = ?", days, days, taskId);
+        return taskId;
+    }
+
+    private boolean isLive(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE id = ?", Integer.class, taskId) == 1;
+    }
+
+    private boolean isArchived(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks_archive WHERE id = ?", Integer.class, taskId) == 1;
+    }
+}
@@ -0,0 +1,108 @@
+package com.projectmanagement.task.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.project.service.ProjectMembershipIndex;
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Batch reads return items in the requested order and list ids that are unknown or not visible.
+ */
+class TaskBatchIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectMembershipIndex membershipIndex;
+
+    private String developer;
+    private String pmo;
+    private long memberProjectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        developer = unique("dev");
+        pmo = unique("pmo");
+        long developerId = insertUser(developer, UserRole.DEVELOPER);
+        long managerId = insertUser(pmo, UserRole.PMO);
+        memberProjectId = insertProject(unique("member"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+        addTeamMember(memberProjectId, developerId);
+        membershipIndex.load();
+    }
+
+    @Test
+    void tasksComeBackInRequestOrderWithArchivedOnes() throws Exception {
+        long first = insertTask(memberProjectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now().plusDays(1));
+        long second = insertTask(memberProjectId, null, TaskStatus.DONE, TaskPriority.HIGH, LocalDate.now());
+        long archived = insertArchivedTask(memberProjectId, null);
+        long missing = insertTask(memberProjectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", missing);
+
+        mockMvc.perform(get("/tasks/batch")
+                        .param("ids", ids(second, missing, archived, first, second))
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(contains((int) second, (int) archived, (int) first)))
+                .andExpect(jsonPath("$.items[1].archived").value(true))
+                .andExpect(jsonPath("$.missingIds").value(contains((int) missing)));
+    }
+
+    @Test
+    void tasksOfOtherProjectsAreReportedMissing() throws Exception {
+        long visible = insertTask(memberProjectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        long hidden = insertTask(otherProjectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        long hiddenArchived = insertArchivedTask(otherProjectId, null);
+
+        mockMvc.perform(get("/tasks/batch")
+                        .param("ids", ids(hidden, visible, hiddenArchived))
+                        .with(as(developer, UserRole.DEVELOPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(contains((int) visible)))
+                .andExpect(jsonPath("$.missingIds").value(contains((int) hidden, (int) hiddenArchived)));
+    }
+
+    @Test
+    void projectsComeBackInRequestOrder() throws Exception {
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", otherProjectId);
+
+        mockMvc.perform(get("/projects/batch")
+                        .param("ids", ids(otherProjectId, memberProjectId))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(contains((int) memberProjectId)))
+                .andExpect(jsonPath("$.missingIds").value(contains((int) otherProjectId)));
+    }
+
+    @Test
+    void usersComeBackInRequestOrder() throws Exception {
+        long first = insertUser(unique("first"), UserRole.DEVELOPER);
+        long second = insertUser(unique("second"), UserRole.DEVELOPER);
+        long missing = insertUser(unique("gone"), UserRole.DEVELOPER);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", missing);
+
+        mockMvc.perform(get("/users/batch")
+                        .param("ids", ids(second, missing, first))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(contains((int) second, (int) first)))
+                .andExpect(jsonPath("$.missingIds").value(contains((int) missing)));
+    }
+
+    private static String[] ids(long... ids) {
+        String[] values = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = String.valueOf(ids[i]);
+        }
+        return values;
+    }
+}
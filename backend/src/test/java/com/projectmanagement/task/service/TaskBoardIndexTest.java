@@ -0,0 +1,69 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.event.TaskEventMessage;
+import com.projectmanagement.task.repository.TaskBoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class TaskBoardIndexTest {
+
+    private final TaskBoardRepository repository = mock(TaskBoardRepository.class);
+
+    @Test
+    void staleUntilLoadedAndCaughtUp() {
+        TaskBoardIndex index = new TaskBoardIndex(repository, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+        assertThat(index.isStale()).isTrue();
+
+        index.rebuild();
+        assertThat(index.isStale()).isTrue();
+
+        index.onPolled(true);
+        assertThat(index.isStale()).isFalse();
+    }
+
+    @Test
+    void becomesStaleWhenNotCaughtUpWithinMaxLag() throws InterruptedException {
+        TaskBoardIndex index = new TaskBoardIndex(repository, new SimpleMeterRegistry(), Duration.ofMillis(50));
+        index.rebuild();
+        index.onPolled(true);
+
+        // Polls that keep finding records behind, or no polls at all, let the lag grow
+        index.onPolled(false);
+        Thread.sleep(100);
+
+        assertThat(index.isStale()).isTrue();
+    }
+
+    @Test
+    void laterEventWinsEvenWhenItsClockIsBehind() {
+        TaskBoardIndex index = new TaskBoardIndex(repository, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+        Instant now = Instant.now();
+
+        index.apply(event(TaskStatus.TODO, now));
+        // Published by an instance whose clock runs a minute behind
+        index.apply(event(TaskStatus.IN_PROGRESS, now.minusSeconds(60)));
+
+        TaskBoardIndex.Card[][] columns = index.columns(1L);
+        assertThat(columns[TaskStatus.TODO.ordinal()]).isEmpty();
+        assertThat(columns[TaskStatus.IN_PROGRESS.ordinal()]).extracting(TaskBoardIndex.Card::id).containsExactly(10L);
+    }
+
+    private static TaskEventMessage event(TaskStatus status, Instant occurredAt) {
+        return TaskEventMessage.builder()
+                .changeType(TaskEventMessage.ChangeType.UPDATED)
+                .taskId(10L)
+                .title("Task")
+                .projectId(1L)
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Deleting a task removes its whole subtree in one statement, subtasks in other projects included.
+ */
+class TaskDeletionIntegrationTest extends AbstractIntegrationTest {
+
+    private String pmo;
+    private long projectId;
+    private long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+        otherProjectId = insertProject(unique("other"), managerId);
+    }
+
+    @Test
+    void deletesTheWholeSubtree() throws Exception {
+        long root = task(projectId, null);
+        long child = task(projectId, root);
+        long grandchild = task(projectId, child);
+        long foreignChild = task(otherProjectId, root);
+        long sibling = task(projectId, null);
+
+        mockMvc.perform(delete("/tasks/{id}", root).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNoContent());
+
+        assertThat(exists(root)).isFalse();
+        assertThat(exists(child)).isFalse();
+        assertThat(exists(grandchild)).isFalse();
+        assertThat(exists(foreignChild)).isFalse();
+        assertThat(exists(sibling)).isTrue();
+    }
+
+    @Test
+    void deletingAMissingTaskIsNotFound() throws Exception {
+        long taskId = task(projectId, null);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", taskId);
+
+        mockMvc.perform(delete("/tasks/{id}", taskId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchDeleteReportsDeletedAndMissingIds() throws Exception {
+        long first = task(projectId, null);
+        long firstChild = task(projectId, first);
+        long second = task(projectId, null);
+        long missing = task(projectId, null);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", missing);
+
+        mockMvc.perform(delete("/tasks")
+                        .param("ids", String.valueOf(first), String.valueOf(second), String.valueOf(missing),
+                                String.valueOf(first))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(
+                        containsInAnyOrder((int) first, (int) firstChild, (int) second)))
+                .andExpect(jsonPath("$.missingIds").value(contains((int) missing)));
+
+        assertThat(exists(first)).isFalse();
+        assertThat(exists(firstChild)).isFalse();
+        assertThat(exists(second)).isFalse();
+    }
+
+    @Test
+    void overlappingRootsAreDeletedOnce() throws Exception {
+        long root = task(projectId, null);
+        long child = task(projectId, root);
+
+        mockMvc.perform(delete("/tasks")
+                        .param("ids", String.valueOf(child), String.valueOf(root))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(containsInAnyOrder((int) root, (int) child)))
+                .andExpect(jsonPath("$.missingIds").isEmpty());
+    }
+
+    private long task(long project, Long parentId) {
+        long taskId = insertTask(project, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(5));
+        if (parentId != null) {
+            jdbcTemplate.update("UPDATE tasks SET parent_task_id = ? WHERE id = ?", parentId, taskId);
+        }
+        return taskId;
+    }
+
+    private boolean exists(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE id = ?", Integer.class, taskId) == 1;
+    }
+}
@@ -0,0 +1,98 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+class TaskExportIntegrationTest extends AbstractIntegrationTest {
+
+    private String pmo;
+    private long projectId;
+    private long first;
+    private long second;
+    private long third;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+        first = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        second = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.now());
+        third = insertArchivedTask(projectId, null);
+    }
+
+    @Test
+    void resumesAfterTheLastExportedId() throws Exception {
+        List<Long> firstPage = exportedIds(export().param("limit", "2"));
+        List<Long> rest = exportedIds(export().param("afterId", String.valueOf(firstPage.get(1))));
+
+        assertThat(firstPage).containsExactly(first, second);
+        assertThat(rest).containsExactly(third);
+    }
+
+    @Test
+    void quotesTitlesWithSeparators() throws Exception {
+        jdbcTemplate.update("UPDATE tasks SET title = ? WHERE id = ?", "Fix \"export\", then\nship", first);
+
+        String csv = body(export().param("limit", "1"));
+
+        assertThat(csv).contains("\n" + first + "," + projectId + ",\"Fix \"\"export\"\", then\nship\",TODO,");
+    }
+
+    @Test
+    void gzipIsOnlyUsedWhenAccepted() throws Exception {
+        assertThat(exported(export().header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(exported(export().header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(exported(export().header(HttpHeaders.ACCEPT_ENCODING, "*;q=0.5"))
+                .getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void exportUsesItsOwnAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(export())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(30 * 60 * 1000L);
+        result.getAsyncResult();
+    }
+
+    private MockHttpServletRequestBuilder export() {
+        return get("/tasks/export")
+                .param("projectId", String.valueOf(projectId))
+                .with(as(pmo, UserRole.PMO));
+    }
+
+    private MvcResult exported(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        result.getAsyncResult();
+        return result;
+    }
+
+    private String body(MockHttpServletRequestBuilder builder) throws Exception {
+        return exported(builder).getResponse().getContentAsString();
+    }
+
+    private List<Long> exportedIds(MockHttpServletRequestBuilder builder) throws Exception {
+        return Arrays.stream(body(builder).split("\n"))
+                .skip(1)
+                .map(line -> Long.valueOf(line.substring(0, line.indexOf(','))))
+                .toList();
+    }
+}
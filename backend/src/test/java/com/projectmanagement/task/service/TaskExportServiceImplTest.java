@@ -0,0 +1,102 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.projectmanagement.project.service.ProjectVisibilityService;
+import com.projectmanagement.task.dto.TaskExportFilter;
+import com.projectmanagement.task.repository.TaskExportRepository;
+import com.projectmanagement.task.repository.TaskExportRepository.TaskExportRow;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class TaskExportServiceImplTest {
+
+    private final TaskExportRepository exportRepository = mock(TaskExportRepository.class);
+    private TaskExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TaskExportServiceImpl(exportRepository, mock(ProjectVisibilityService.class),
+                mock(PlatformTransactionManager.class), 1);
+    }
+
+    @Test
+    void csvQuotesTitlesWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        returnRows(row(1, "plain"), row(2, "a, b"), row(3, "say \"hi\""), row(4, "first\nsecond"));
+
+        String csv = write(exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false));
+
+        assertThat(csv).startsWith("id,projectId,title,status,");
+        assertThat(csv).contains("\n1,7,plain,TODO,")
+                .contains("\n2,7,\"a, b\",TODO,")
+                .contains("\n3,7,\"say \"\"hi\"\"\",TODO,")
+                .contains("\n4,7,\"first\nsecond\",TODO,");
+    }
+
+    @Test
+    void csvLeavesNullColumnsEmpty() throws IOException {
+        returnRows(row(1, "plain"));
+
+        String csv = write(exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false));
+
+        assertThat(csv).endsWith("\n1,7,plain,TODO,LOW,,,,,,2024-01-02T03:04:05,,,false\n");
+    }
+
+    @Test
+    void rejectsExportsOverTheLimitUntilOneFinishes() throws IOException {
+        returnRows(row(1, "plain"));
+        StreamingResponseBody running = exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false);
+
+        assertThatThrownBy(() -> exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        write(running);
+
+        assertThat(exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false)).isNotNull();
+    }
+
+    @Test
+    void failedExportFreesItsSlot() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("connection lost");
+        }).when(exportRepository).stream(any(), any());
+
+        assertThatThrownBy(() -> write(exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(exportService.export(new TaskExportFilter(), TaskExportFormat.CSV, false)).isNotNull();
+    }
+
+    private void returnRows(TaskExportRow... rows) {
+        doAnswer(invocation -> {
+            List.of(rows).forEach(invocation.<Consumer<TaskExportRow>>getArgument(1));
+            return null;
+        }).when(exportRepository).stream(any(), any());
+    }
+
+    private static TaskExportRow row(long id, String title) {
+        return new TaskExportRow(id, 7, title, "TODO", "LOW", null, null, null, null, null,
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5), null, null, false);
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
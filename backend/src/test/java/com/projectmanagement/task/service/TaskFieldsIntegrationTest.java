@@ -0,0 +1,84 @@
+package com.projectmanagement.task.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GET /tasks?fields= accepts the same filters and sort as GET /tasks.
+ */
+class TaskFieldsIntegrationTest extends AbstractIntegrationTest {
+
+    private String pmo;
+    private long projectId;
+    private long critical;
+    private long high;
+    private long low;
+    private long done;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+        LocalDate today = LocalDate.now();
+        low = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.LOW, today.plusDays(2));
+        critical = insertTask(projectId, null, TaskStatus.IN_PROGRESS, TaskPriority.CRITICAL, today.plusDays(3));
+        high = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.HIGH, today.plusDays(30));
+        done = insertTask(projectId, null, TaskStatus.DONE, TaskPriority.CRITICAL, today.plusDays(1));
+    }
+
+    @Test
+    void filtersBySeveralStatusesAndSortsByPriority() throws Exception {
+        mockMvc.perform(get("/tasks").param("fields", "id", "priority")
+                        .param("projectId", String.valueOf(projectId))
+                        .param("status", "TODO", "IN_PROGRESS")
+                        .param("sort", "priority,desc")
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains((int) critical, (int) high, (int) low)));
+    }
+
+    @Test
+    void filtersByPriorityAndDueRange() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(get("/tasks").param("fields", "id")
+                        .param("projectId", String.valueOf(projectId))
+                        .param("priority", "CRITICAL", "LOW")
+                        .param("dueFrom", today.plusDays(2).toString())
+                        .param("dueTo", today.plusDays(10).toString())
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(containsInAnyOrder((int) low, (int) critical)));
+    }
+
+    @Test
+    void filtersByParentTask() throws Exception {
+        jdbcTemplate.update("UPDATE tasks SET parent_task_id = ? WHERE id = ?", done, high);
+
+        mockMvc.perform(get("/tasks").param("fields", "id", "parentTaskId")
+                        .param("parentTaskId", String.valueOf(done))
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains((int) high)));
+    }
+
+    @Test
+    void rejectsUnsortableFields() throws Exception {
+        mockMvc.perform(get("/tasks").param("fields", "id")
+                        .param("projectId", String.valueOf(projectId))
+                        .param("sort", "description")
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isBadRequest());
+    }
+}
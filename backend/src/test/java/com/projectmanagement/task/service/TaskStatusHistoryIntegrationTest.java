@@ -0,0 +1,122 @@
+package com.projectmanagement.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.dto.TaskTransitionDTO;
+import com.projectmanagement.task.event.TaskChangedEvent;
+import com.projectmanagement.task.event.TaskSnapshot;
+import com.projectmanagement.task.repository.TaskStatusHistoryRepository;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transitions land in the monthly partition of task_status_history that covers their timestamp,
+ * and only when the change that produced them commits.
+ */
+class TaskStatusHistoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TaskStatusHistoryRepository historyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String pmo;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        projectId = insertProject(unique("project"), managerId);
+    }
+
+    @Test
+    void statusChangeIsRecordedInTheCurrentMonthPartition() throws Exception {
+        long taskId = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(5));
+
+        mockMvc.perform(put("/tasks/{id}/status", taskId).param("status", "IN_PROGRESS").with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/tasks/{id}/history", taskId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].fromStatus").value("TODO"))
+                .andExpect(jsonPath("$[0].toStatus").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[0].changedBy").value(pmo));
+        assertThat(partitionsOf(taskId)).containsExactly(partitionName(LocalDate.now()));
+    }
+
+    @Test
+    void batchInsertRoutesEachRowToItsMonth() {
+        long taskId = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(5));
+        LocalDateTime now = LocalDateTime.now();
+        historyRepository.insertBatch(List.of(
+                transition(taskId, TaskStatus.TODO, TaskStatus.IN_PROGRESS, now.minusMonths(1)),
+                transition(taskId, TaskStatus.IN_PROGRESS, TaskStatus.REVIEW, now),
+                transition(taskId, TaskStatus.REVIEW, TaskStatus.DONE, now.plusMonths(2))));
+
+        assertThat(historyRepository.findByTaskId(taskId))
+                .extracting(TaskTransitionDTO::getToStatus)
+                .containsExactly(TaskStatus.IN_PROGRESS, TaskStatus.REVIEW, TaskStatus.DONE);
+        assertThat(partitionsOf(taskId)).containsExactlyInAnyOrder(
+                partitionName(now.toLocalDate().minusMonths(1)),
+                partitionName(now.toLocalDate()),
+                partitionName(now.toLocalDate().plusMonths(2)));
+    }
+
+    @Test
+    void rolledBackChangeLeavesNoHistory() {
+        long taskId = insertTask(projectId, null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now().plusDays(5));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(taskId,
+                    snapshot(TaskStatus.TODO), snapshot(TaskStatus.IN_PROGRESS)));
+            throw new IllegalStateException("rolled back");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(historyRepository.findByTaskId(taskId)).isEmpty();
+    }
+
+    private TaskSnapshot snapshot(TaskStatus status) {
+        return TaskSnapshot.builder().projectId(projectId).status(status).priority(TaskPriority.MEDIUM).build();
+    }
+
+    private TaskTransitionDTO transition(long taskId, TaskStatus from, TaskStatus to, LocalDateTime changedAt) {
+        return TaskTransitionDTO.builder()
+                .taskId(taskId)
+                .projectId(projectId)
+                .fromStatus(from)
+                .toStatus(to)
+                .changedAt(changedAt)
+                .changedBy(pmo)
+                .build();
+    }
+
+    private List<String> partitionsOf(long taskId) {
+        return jdbcTemplate.queryForList(
+                "SELECT tableoid::regclass::text FROM task_status_history WHERE task_id = ?", String.class, taskId);
+    }
+
+    private static String partitionName(LocalDate date) {
+        return String.format("task_status_history_%04d_%02d", date.getYear(), date.getMonthValue());
+    }
+}
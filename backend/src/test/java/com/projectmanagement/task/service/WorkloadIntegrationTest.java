@@ -0,0 +1,107 @@
+package com.projectmanagement.task.service;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.task.domain.TaskPriority;
+import com.projectmanagement.task.domain.TaskStatus;
+import com.projectmanagement.task.repository.WorkloadRepository;
+import com.projectmanagement.user.domain.UserRole;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Weekly workload is read from the task_workload_weekly materialized view, which the refresher
+ * brings up to date after task changes.
+ */
+class WorkloadIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private WorkloadRepository workloadRepository;
+
+    @Autowired
+    private WorkloadViewRefresher refresher;
+
+    private String pmo;
+    private long developerId;
+    private long projectId;
+    private LocalDate week;
+
+    @BeforeEach
+    void setUp() {
+        pmo = unique("pmo");
+        long managerId = insertUser(pmo, UserRole.PMO);
+        developerId = insertUser(unique("dev"), UserRole.DEVELOPER);
+        projectId = insertProject(unique("project"), managerId);
+        week = LocalDate.now().plusWeeks(2).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void sumsOpenHoursPerIsoWeek() throws Exception {
+        task(TaskStatus.TODO, week, 3);
+        task(TaskStatus.IN_PROGRESS, week.plusDays(6), 5);
+        task(TaskStatus.DONE, week.plusDays(2), 40);
+        task(TaskStatus.TODO, week.plusWeeks(1).plusDays(4), 2);
+        task(TaskStatus.TODO, week.plusWeeks(5), 13);
+        workloadRepository.refresh();
+
+        // Any day of a week selects the whole week
+        mockMvc.perform(get("/workload/users/{assigneeId}", developerId)
+                        .param("from", week.plusDays(2).toString())
+                        .param("to", week.plusWeeks(1).plusDays(1).toString())
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOpenHours").value(10))
+                .andExpect(jsonPath("$.weeks.length()").value(2))
+                .andExpect(jsonPath("$.weeks[0].weekStart").value(week.toString()))
+                .andExpect(jsonPath("$.weeks[0].isoWeek").value(week.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)))
+                .andExpect(jsonPath("$.weeks[0].openHours").value(8))
+                .andExpect(jsonPath("$.weeks[0].openTasks").value(2))
+                .andExpect(jsonPath("$.weeks[1].weekStart").value(week.plusWeeks(1).toString()))
+                .andExpect(jsonPath("$.weeks[1].openHours").value(2));
+    }
+
+    @Test
+    void refresherPicksUpTaskChanges() throws Exception {
+        long taskId = task(TaskStatus.TODO, week, 8);
+        workloadRepository.refresh();
+
+        mockMvc.perform(put("/tasks/{id}/status", taskId).param("status", "DONE").with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk());
+        refresher.refreshIfDirty();
+
+        mockMvc.perform(get("/workload/users/{assigneeId}", developerId)
+                        .param("from", week.toString())
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOpenHours").value(0))
+                .andExpect(jsonPath("$.weeks").isEmpty());
+    }
+
+    @Test
+    void rejectsInvertedRangeAndUnknownUsers() throws Exception {
+        mockMvc.perform(get("/workload")
+                        .param("from", week.toString())
+                        .param("to", week.minusWeeks(1).toString())
+                        .with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isBadRequest());
+
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", developerId);
+        mockMvc.perform(get("/workload/users/{assigneeId}", developerId).with(as(pmo, UserRole.PMO)))
+                .andExpect(status().isNotFound());
+    }
+
+    private long task(TaskStatus status, LocalDate dueDate, int estimatedHours) {
+        long taskId = insertTask(projectId, developerId, status, TaskPriority.MEDIUM, dueDate);
+        jdbcTemplate.update("UPDATE tasks SET estimated_hours = ? WHERE id = ?", estimatedHours, taskId);
+        return taskId;
+    }
+}
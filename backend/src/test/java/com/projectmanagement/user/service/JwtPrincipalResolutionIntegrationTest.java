@@ -0,0 +1,162 @@
+package com.projectmanagement.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.user.domain.UserRole;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Sends real signed tokens through the resource server, with a local key pair standing in for
+ * Keycloak, and checks how their subjects resolve to local users.
+ */
+class JwtPrincipalResolutionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String ISSUER = "https://keycloak.test/realms/project-management";
+    private static final KeyPair KEYS = generateKeyPair();
+    private static final KeyPair OTHER_KEYS = generateKeyPair();
+
+    @DynamicPropertySource
+    static void jwtProperties(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.issuer-uri", () -> ISSUER);
+        registry.add("security.jwt.public-key-location", () -> "file:" + writePublicKey(KEYS));
+    }
+
+    @Test
+    void validTokenResolvesByItsSubject() throws Exception {
+        String username = unique("dev");
+        String subject = UUID.randomUUID().toString();
+        long userId = insertUser(username, subject);
+
+        createCalendarToken(sign(KEYS, subject, username, Instant.now().plusSeconds(300)))
+                .andExpect(status().isCreated());
+
+        assertThat(calendarTokenHash(userId)).isNotNull();
+    }
+
+    @Test
+    void unlinkedAccountIsLinkedOnFirstLogin() throws Exception {
+        String username = unique("dev");
+        long userId = insertUser(username, (String) null);
+        String subject = UUID.randomUUID().toString();
+
+        createCalendarToken(sign(KEYS, subject, username, Instant.now().plusSeconds(300)))
+                .andExpect(status().isCreated());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT keycloak_id FROM users WHERE id = ?", String.class, userId))
+                .isEqualTo(subject);
+    }
+
+    @Test
+    void linkedAccountIsNotMatchedByUsernameFromAnotherSubject() throws Exception {
+        String username = unique("dev");
+        String subject = UUID.randomUUID().toString();
+        long userId = insertUser(username, subject);
+
+        // Another identity that claims the same preferred_username
+        createCalendarToken(sign(KEYS, UUID.randomUUID().toString(), username, Instant.now().plusSeconds(300)))
+                .andExpect(status().isForbidden());
+
+        assertThat(calendarTokenHash(userId)).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT keycloak_id FROM users WHERE id = ?", String.class, userId))
+                .isEqualTo(subject);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() throws Exception {
+        String username = unique("dev");
+        String subject = UUID.randomUUID().toString();
+        insertUser(username, subject);
+
+        createCalendarToken(sign(OTHER_KEYS, subject, username, Instant.now().plusSeconds(300)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        String username = unique("dev");
+        String subject = UUID.randomUUID().toString();
+        insertUser(username, subject);
+
+        createCalendarToken(sign(KEYS, subject, username, Instant.now().minusSeconds(600)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions createCalendarToken(String token) throws Exception {
+        return mockMvc.perform(post("/tasks/calendar/token").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private long insertUser(String username, String keycloakId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, first_name, last_name, email, role, active, keycloak_id, created_at, updated_at) "
+                + "VALUES (?, 'Test', 'User', ?, 'DEVELOPER', true, ?, now(), now()) RETURNING id",
+                Long.class, username, username + "@example.com", keycloakId);
+    }
+
+    private String calendarTokenHash(long userId) {
+        return jdbcTemplate.queryForObject("SELECT calendar_token_hash FROM users WHERE id = ?", String.class, userId);
+    }
+
+    private static String sign(KeyPair keys, String subject, String username, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .claim("preferred_username", username)
+                .claim("realm_access", Map.of("roles", List.of(UserRole.DEVELOPER.name())))
+                .issueTime(Date.from(expiresAt.minusSeconds(600)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(keys.getPrivate()));
+        return jwt.serialize();
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path writePublicKey(KeyPair keys) {
+        String pem = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(keys.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n";
+        try {
+            Path file = Files.createTempFile("jwt-public", ".pem");
+            Files.writeString(file, pem);
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.projectmanagement.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.projectmanagement.support.AbstractIntegrationTest;
+import com.projectmanagement.user.domain.UserRole;
+import com.projectmanagement.user.dto.UserImportErrorDTO;
+import com.projectmanagement.user.dto.UserImportResultDTO;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserImportIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String HEADER = "username,firstName,lastName,email,role\n";
+
+    @Autowired
+    private UserImportService importService;
+
+    @Test
+    void reportsConflictsWithExistingUsersAndWithinTheFile() {
+        String existing = unique("existing");
+        String otherExisting = unique("existing");
+        insertUser(existing, UserRole.DEVELOPER);
+        insertUser(otherExisting, UserRole.DEVELOPER);
+        String first = unique("first");
+        String second = unique("second");
+        String third = unique("third");
+        
+        UserImportResultDTO result = importCsv(HEADER
+                + row(first, first + "@example.com", "DEVELOPER")
+                + row(existing, unique("fresh") + "@example.com", "DEVELOPER")
+                + row(unique("fresh"), existing + "@example.com", "DEVELOPER")
+                + row(otherExisting, otherExisting + "@example.com", "DEVELOPER")
+                + row(first, second + "@example.com", "DEVELOPER")
+                + row(second, first + "@example.com", "DEVELOPER")
+                + row(third, third + "@example.com", "ARCHITECT")
+                + row(third, third + "@example.com", "PROJECT_MANAGER"));
+        
+        assertThat(result.getTotalRows()).isEqualTo(8);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getErrorCount()).isEqualTo(6);
+        assertThat(messagesByRow(result)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                2, "Username already exists",
+                3, "Email already exists",
+                4, "Username and email already exist",
+                5, "Duplicate username in import: " + first,
+                6, "Duplicate email in import: " + first + "@example.com",
+                7, "Invalid role: ARCHITECT"));
+        assertThat(countUsers(first, second, third)).isEqualTo(2);
+    }
+
+    @Test
+    void importsOneHundredThousandRowsInSeconds() {
+        String prefix = unique("bulk");
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 100_000; i++) {
+            csv.append(row(prefix + "-" + i, prefix + "-" + i + "@example.com", "DEVELOPER"));
+        }
+        
+        long start = System.nanoTime();
+        UserImportResultDTO result = importCsv(csv.toString());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        
+        assertThat(result.getImportedCount()).isEqualTo(100_000);
+        assertThat(result.getErrorCount()).isZero();
+        // Generous for shared CI machines; COPY plus one merge statement takes a few seconds locally
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(20));
+    }
+    
+    private UserImportResultDTO importCsv(String csv) {
+        return importService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportFormat.CSV);
+    }
+    
+    private int countUsers(String... usernames) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = ANY(?)", Integer.class, (Object) usernames);
+    }
+    
+    private static String row(String username, String email, String role) {
+        return username + ",Test,User," + email + "," + role + "\n";
+    }
+    
+    private static Map<Integer, String> messagesByRow(UserImportResultDTO result) {
+        return result.getErrors().stream()
+                .collect(Collectors.toMap(UserImportErrorDTO::getRow, UserImportErrorDTO::getMessage));
+    }
+}
@@ -88,10 +88,17 @@ export interface Task {
   estimatedHours: number;
   actualHours: number;
   projectId: number;
-  assignee: User;
+  assigneeId?: number;
+  assignee?: User;
   parentTaskId: number;
 }
 
+// Task list where each referenced user is sent once, keyed by id
+export interface NormalizedTaskList {
+  tasks: Task[];
+  users: Record<number, User>;
+}
+
 // User service
 export const userService = {
   getAll: () => api.get<User[]>('/users'),
@@ -121,6 +128,7 @@ export const taskService = {
   getAll: () => api.get<Task[]>('/tasks'),
   getById: (id: number) => api.get<Task>(`/tasks/${id}`),
   getByProject: (projectId: number) => api.get<Task[]>(`/tasks?projectId=${projectId}`),
+  getNormalizedByProject: (projectId: number) => api.get<NormalizedTaskList>(`/tasks/normalized?projectId=${projectId}`),
   getByAssignee: (assigneeId: number) => api.get<Task[]>(`/tasks?assigneeId=${assigneeId}`),
   getByProjectAndStatus: (projectId: number, status: string) => api.get<Task[]>(`/tasks?projectId=${projectId}&status=${status}`),
   getByAssigneeAndStatus: (assigneeId: number, status: string) => api.get<Task[]>(`/tasks?assigneeId=${assigneeId}&status=${status}`),